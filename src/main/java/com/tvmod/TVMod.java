@@ -1,14 +1,20 @@
 package com.tvmod;
 
+import com.tvmod.client.AttenuationCurve;
+import com.tvmod.client.ClientEvents;
+import com.tvmod.client.backend.VideoBackends;
 import com.tvmod.client.renderer.TVBlockRenderer;
+import com.tvmod.config.ClientConfig;
 import com.tvmod.init.ModBlocks;
 import com.tvmod.init.ModItems;
 import com.tvmod.init.ModTileEntities;
 import com.tvmod.network.NetworkHandler;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.eventbus.api.IEventBus;
+import net.minecraftforge.fml.ModLoadingContext;
 import net.minecraftforge.fml.client.registry.ClientRegistry;
 import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.config.ModConfig;
 import net.minecraftforge.fml.event.lifecycle.FMLClientSetupEvent;
 import net.minecraftforge.fml.event.lifecycle.FMLCommonSetupEvent;
 import net.minecraftforge.fml.javafmlmod.FMLJavaModLoadingContext;
@@ -27,8 +33,11 @@ public class TVMod {
         ModItems.register(modEventBus);
         ModTileEntities.register(modEventBus);
 
+        ModLoadingContext.get().registerConfig(ModConfig.Type.CLIENT, ClientConfig.SPEC);
+
         modEventBus.addListener(this::commonSetup);
         modEventBus.addListener(this::clientSetup);
+        modEventBus.addListener(this::onConfigReload);
 
         MinecraftForge.EVENT_BUS.register(this);
 
@@ -45,6 +54,15 @@ public class TVMod {
                 ModTileEntities.TV_TILE_ENTITY.get(),
                 TVBlockRenderer::new
         );
+        ClientEvents.registerKeyBindings();
         LOGGER.info("TV Mod client setup - renderer registered");
+
+        event.enqueueWork(VideoBackends::probe);
+    }
+
+    private void onConfigReload(final ModConfig.Reloading event) {
+        if (event.getConfig().getSpec() == ClientConfig.SPEC) {
+            AttenuationCurve.invalidate();
+        }
     }
 }
@@ -0,0 +1,191 @@
+package com.tvmod.client;
+
+import com.tvmod.TVMod;
+import com.tvmod.config.ClientConfig;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An {@link AttenuationModel} compiled into a lookup table indexed by
+ * squared distance, so the per-tick volume pass needs neither a sqrt nor a
+ * branch per model. {@link #gain} is the exact curve the table samples.
+ * Curves are compiled on first use and again after the client config is
+ * reloaded.
+ */
+public class AttenuationCurve {
+
+    public static final int TABLE_SIZE = 4096;
+    // Distance at which the inverse models have lost half their volume
+    private static final double REFERENCE_DISTANCE = 4.0;
+
+    private static final AttenuationCurve[] compiled = new AttenuationCurve[AttenuationModel.values().length];
+    private static AttenuationModel globalModel = null;
+
+    private final AttenuationModel model;
+    private final double maxDistance;
+    // CUSTOM only, sorted by distance
+    private final double[] keyDistances;
+    private final float[] keyGains;
+    // Entry i covers squared distances [i / scale, (i + 1) / scale); the last one is silence
+    private final float[] table = new float[TABLE_SIZE + 1];
+    private final double scale;
+
+    private AttenuationCurve(AttenuationModel model, double maxDistance, double[] keyDistances, float[] keyGains) {
+        this.model = model;
+        this.maxDistance = maxDistance;
+        this.keyDistances = keyDistances;
+        this.keyGains = keyGains;
+        this.scale = TABLE_SIZE / (maxDistance * maxDistance);
+
+        for (int i = 0; i < TABLE_SIZE; i++) {
+            table[i] = gain(Math.sqrt((i + 0.5) / scale));
+        }
+        table[TABLE_SIZE] = 0.0f;
+    }
+
+    /**
+     * Compiled curve for {@code model}, or for the configured default when
+     * null.
+     */
+    public static AttenuationCurve get(@Nullable AttenuationModel model) {
+        if (model == null) model = getGlobalModel();
+        AttenuationCurve curve = compiled[model.ordinal()];
+        if (curve == null) {
+            curve = compile(model, model == AttenuationModel.CUSTOM
+                    ? ClientConfig.CUSTOM_ATTENUATION.get() : Collections.<String>emptyList());
+            compiled[model.ordinal()] = curve;
+        }
+        return curve;
+    }
+
+    public static AttenuationModel getGlobalModel() {
+        if (globalModel == null) {
+            String name = ClientConfig.ATTENUATION_MODEL.get();
+            globalModel = AttenuationModel.byName(name);
+            if (globalModel == null) {
+                TVMod.LOGGER.warn("Unknown attenuation model '{}', using linear", name);
+                globalModel = AttenuationModel.LINEAR;
+            }
+        }
+        return globalModel;
+    }
+
+    /**
+     * Drops compiled curves so config changes take effect.
+     */
+    public static void invalidate() {
+        Arrays.fill(compiled, null);
+        globalModel = null;
+    }
+
+    /**
+     * Builds the table for {@code model}; {@code keyframes} are
+     * {@code "distance:gain"} entries, only used by CUSTOM.
+     */
+    static AttenuationCurve compile(AttenuationModel model, List<? extends String> keyframes) {
+        double maxDistance = VolumeCalculator.MAX_DISTANCE;
+        if (model != AttenuationModel.CUSTOM) {
+            return new AttenuationCurve(model, maxDistance, null, null);
+        }
+
+        List<double[]> parsed = new ArrayList<>();
+        for (String entry : keyframes) {
+            double[] keyframe = parseKeyframe(entry);
+            if (keyframe != null) parsed.add(keyframe);
+        }
+        if (parsed.isEmpty()) {
+            TVMod.LOGGER.warn("No valid custom attenuation keyframes, using linear");
+            return new AttenuationCurve(AttenuationModel.LINEAR, maxDistance, null, null);
+        }
+
+        parsed.sort((x, y) -> Double.compare(x[0], y[0]));
+        double[] distances = new double[parsed.size()];
+        float[] gains = new float[parsed.size()];
+        for (int i = 0; i < distances.length; i++) {
+            distances[i] = parsed.get(i)[0];
+            gains[i] = (float) Math.max(0.0, Math.min(1.0, parsed.get(i)[1]));
+        }
+        return new AttenuationCurve(model, maxDistance, distances, gains);
+    }
+
+    /**
+     * Parses {@code "distance:gain"}, or returns null with a warning.
+     */
+    @Nullable
+    private static double[] parseKeyframe(String entry) {
+        int separator = entry.indexOf(':');
+        if (separator > 0) {
+            try {
+                double distance = Double.parseDouble(entry.substring(0, separator).trim());
+                double gain = Double.parseDouble(entry.substring(separator + 1).trim());
+                if (distance >= 0 && !Double.isNaN(gain)) return new double[]{distance, gain};
+            } catch (NumberFormatException ignored) {
+            }
+        }
+        TVMod.LOGGER.warn("Ignoring invalid attenuation keyframe '{}'", entry);
+        return null;
+    }
+
+    /**
+     * Gain at a squared distance, read from the table.
+     */
+    public float lookup(double distanceSqr) {
+        return table[Math.min((int) (distanceSqr * scale), TABLE_SIZE)];
+    }
+
+    /**
+     * Exact gain at a distance; the reference the table is sampled from.
+     */
+    public float gain(double distance) {
+        if (distance >= maxDistance) return 0.0f;
+        distance = Math.max(0.0, distance);
+
+        switch (model) {
+            case INVERSE:
+                return normalize(1.0 / (1.0 + distance / REFERENCE_DISTANCE),
+                        1.0 / (1.0 + maxDistance / REFERENCE_DISTANCE));
+            case INVERSE_SQUARE: {
+                double ratio = distance / REFERENCE_DISTANCE;
+                double maxRatio = maxDistance / REFERENCE_DISTANCE;
+                return normalize(1.0 / (1.0 + ratio * ratio), 1.0 / (1.0 + maxRatio * maxRatio));
+            }
+            case LOGARITHMIC:
+                return (float) (1.0 - Math.log1p(distance) / Math.log1p(maxDistance));
+            case CUSTOM:
+                return interpolate(distance);
+            case LINEAR:
+            default:
+                return VolumeCalculator.calculateVolume(distance, 1.0f);
+        }
+    }
+
+    /**
+     * Rescales a falloff so it reaches exactly zero at the maximum distance
+     * instead of cutting off there.
+     */
+    private static float normalize(double value, double valueAtMax) {
+        return (float) ((value - valueAtMax) / (1.0 - valueAtMax));
+    }
+
+    /**
+     * Linear between keyframes; the first and last gains hold before and
+     * after them.
+     */
+    private float interpolate(double distance) {
+        int last = keyDistances.length - 1;
+        if (distance <= keyDistances[0]) return keyGains[0];
+        if (distance >= keyDistances[last]) return keyGains[last];
+
+        int i = 1;
+        while (keyDistances[i] < distance) i++;
+        double span = keyDistances[i] - keyDistances[i - 1];
+        double t = span > 0 ? (distance - keyDistances[i - 1]) / span : 1.0;
+        return (float) (keyGains[i - 1] + (keyGains[i] - keyGains[i - 1]) * t);
+    }
+
+    public AttenuationModel getModel() { return model; }
+}
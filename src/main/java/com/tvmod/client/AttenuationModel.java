@@ -0,0 +1,36 @@
+package com.tvmod.client;
+
+import javax.annotation.Nullable;
+
+/**
+ * How a TV's volume falls off with distance. Every model starts at full
+ * volume and reaches silence at {@link VolumeCalculator#MAX_DISTANCE}; see
+ * {@link AttenuationCurve} for the curves themselves.
+ */
+public enum AttenuationModel {
+    LINEAR("linear"),
+    INVERSE("inverse"),
+    INVERSE_SQUARE("inverse_square"),
+    LOGARITHMIC("logarithmic"),
+    // Keyframes from the client config
+    CUSTOM("custom");
+
+    private final String name;
+
+    AttenuationModel(String name) {
+        this.name = name;
+    }
+
+    public String getName() { return name; }
+
+    /**
+     * Model with the given config name, or null if there is none.
+     */
+    @Nullable
+    public static AttenuationModel byName(String name) {
+        for (AttenuationModel model : values()) {
+            if (model.name.equalsIgnoreCase(name)) return model;
+        }
+        return null;
+    }
+}
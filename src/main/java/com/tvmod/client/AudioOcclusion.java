@@ -0,0 +1,215 @@
+package com.tvmod.client;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.vector.Vector3d;
+import net.minecraft.world.World;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Muffles TVs heard through walls. A voxel walk from the listener's eyes to
+ * the screen multiplies in a loss for every block crossed. Results are
+ * cached per TV for the listener's block, so standing still costs nothing;
+ * they are recomputed when the listener changes block, when a block changes
+ * in a chunk the ray crossed, or after a while as a fallback for servers,
+ * where block changes don't raise events on the client. Only a few rays are
+ * cast per tick, round-robin; stale TVs keep their last factor meanwhile.
+ */
+@OnlyIn(Dist.CLIENT)
+public class AudioOcclusion {
+
+    private static final int RAYCASTS_PER_TICK = 4;
+    private static final int REFRESH_TICKS = 100;
+    // Gain kept per block crossed: full cubes, then anything else with collision
+    private static final float SOLID_LOSS = 0.4f;
+    private static final float PARTIAL_LOSS = 0.8f;
+    private static final float MIN_FACTOR = 0.05f;
+
+    private static final class Entry {
+        long listener = Long.MIN_VALUE;
+        float factor = 1.0f;
+        long computedAt;
+        boolean dirty = true;
+        long[] chunks = new long[4];
+        int chunkCount = 0;
+
+        boolean crosses(long chunk) {
+            for (int i = 0; i < chunkCount; i++) {
+                if (chunks[i] == chunk) return true;
+            }
+            return false;
+        }
+
+        void addChunk(long chunk) {
+            if (chunkCount > 0 && chunks[chunkCount - 1] == chunk) return;
+            if (chunkCount == chunks.length) {
+                long[] grown = new long[chunks.length * 2];
+                System.arraycopy(chunks, 0, grown, 0, chunkCount);
+                chunks = grown;
+            }
+            chunks[chunkCount++] = chunk;
+        }
+    }
+
+    private static final class BlockChange {
+        final RegistryKey<World> dimension;
+        final long chunk;
+
+        BlockChange(RegistryKey<World> dimension, long chunk) {
+            this.dimension = dimension;
+            this.chunk = chunk;
+        }
+    }
+
+    private static final Map<TVVideoPlayer, Entry> cache = new HashMap<>();
+    // Filled from whichever thread posts the block event (the integrated server's in singleplayer)
+    private static final ConcurrentLinkedQueue<BlockChange> changes = new ConcurrentLinkedQueue<>();
+    private static final Set<Long> changedChunks = new HashSet<>();
+    private static final BlockPos.Mutable cursor = new BlockPos.Mutable();
+    private static int roundRobin = 0;
+    private static long tick = 0;
+
+    /**
+     * Cached occlusion factor for a TV, 1.0 when nothing is in the way.
+     */
+    public static float getFactor(TVVideoPlayer player) {
+        Entry entry = cache.get(player);
+        return entry != null ? entry.factor : 1.0f;
+    }
+
+    /**
+     * Marks rays through {@code pos}'s chunk for recomputation. Safe to call
+     * from any thread.
+     */
+    public static void onBlockChanged(RegistryKey<World> dimension, BlockPos pos) {
+        changes.add(new BlockChange(dimension, ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4)));
+    }
+
+    /**
+     * Applies queued block changes and recasts up to a few stale rays among
+     * {@code audible}, which must hold only TVs that can currently be heard.
+     */
+    public static void update(World level, Vector3d listener, List<TVVideoPlayer> audible) {
+        tick++;
+        applyChanges(level.dimension());
+
+        int count = audible.size();
+        if (count == 0) return;
+
+        long listenerKey = BlockPos.asLong((int) Math.floor(listener.x), (int) Math.floor(listener.y),
+                (int) Math.floor(listener.z));
+        int budget = RAYCASTS_PER_TICK;
+        int start = roundRobin % count;
+        for (int k = 0; k < count && budget > 0; k++) {
+            int index = (start + k) % count;
+            TVVideoPlayer player = audible.get(index);
+            Entry entry = cache.computeIfAbsent(player, key -> new Entry());
+            if (!entry.dirty && entry.listener == listenerKey && tick - entry.computedAt < REFRESH_TICKS) continue;
+
+            cast(level, listener, player.getPos(), entry);
+            entry.listener = listenerKey;
+            entry.computedAt = tick;
+            entry.dirty = false;
+            budget--;
+            roundRobin = index + 1;
+        }
+    }
+
+    private static void applyChanges(RegistryKey<World> dimension) {
+        BlockChange change;
+        while ((change = changes.poll()) != null) {
+            if (change.dimension == dimension) changedChunks.add(change.chunk);
+        }
+        if (changedChunks.isEmpty()) return;
+
+        for (Entry entry : cache.values()) {
+            if (entry.dirty) continue;
+            for (Long chunk : changedChunks) {
+                if (entry.crosses(chunk)) {
+                    entry.dirty = true;
+                    break;
+                }
+            }
+        }
+        changedChunks.clear();
+    }
+
+    /**
+     * Walks every block the segment from {@code from} to the centre of
+     * {@code target} passes through (Amanatides-Woo), excluding both ends.
+     */
+    private static void cast(World level, Vector3d from, BlockPos target, Entry entry) {
+        double dx = target.getX() + 0.5 - from.x;
+        double dy = target.getY() + 0.5 - from.y;
+        double dz = target.getZ() + 0.5 - from.z;
+
+        int x = (int) Math.floor(from.x);
+        int y = (int) Math.floor(from.y);
+        int z = (int) Math.floor(from.z);
+        int stepX = dx > 0 ? 1 : -1;
+        int stepY = dy > 0 ? 1 : -1;
+        int stepZ = dz > 0 ? 1 : -1;
+        double deltaX = dx != 0 ? Math.abs(1.0 / dx) : Double.POSITIVE_INFINITY;
+        double deltaY = dy != 0 ? Math.abs(1.0 / dy) : Double.POSITIVE_INFINITY;
+        double deltaZ = dz != 0 ? Math.abs(1.0 / dz) : Double.POSITIVE_INFINITY;
+        double maxX = dx != 0 ? (stepX > 0 ? x + 1 - from.x : from.x - x) * deltaX : Double.POSITIVE_INFINITY;
+        double maxY = dy != 0 ? (stepY > 0 ? y + 1 - from.y : from.y - y) * deltaY : Double.POSITIVE_INFINITY;
+        double maxZ = dz != 0 ? (stepZ > 0 ? z + 1 - from.z : from.z - z) * deltaZ : Double.POSITIVE_INFINITY;
+
+        float factor = 1.0f;
+        entry.chunkCount = 0;
+        entry.addChunk(ChunkPos.asLong(x >> 4, z >> 4));
+
+        while (factor > MIN_FACTOR) {
+            if (maxX < maxY && maxX < maxZ) {
+                if (maxX > 1.0) break;
+                x += stepX;
+                maxX += deltaX;
+            } else if (maxY < maxZ) {
+                if (maxY > 1.0) break;
+                y += stepY;
+                maxY += deltaY;
+            } else {
+                if (maxZ > 1.0) break;
+                z += stepZ;
+                maxZ += deltaZ;
+            }
+            if (x == target.getX() && y == target.getY() && z == target.getZ()) break;
+
+            entry.addChunk(ChunkPos.asLong(x >> 4, z >> 4));
+            BlockState state = level.getBlockState(cursor.set(x, y, z));
+            if (state.isAir()) continue;
+            if (state.canOcclude()) {
+                factor *= SOLID_LOSS;
+            } else if (state.getMaterial().blocksMotion()) {
+                factor *= PARTIAL_LOSS;
+            }
+        }
+        entry.addChunk(ChunkPos.asLong(target.getX() >> 4, target.getZ() >> 4));
+        entry.factor = Math.max(MIN_FACTOR, factor);
+    }
+
+    public static void forget(TVVideoPlayer player) {
+        cache.remove(player);
+    }
+
+    public static void clear() {
+        cache.clear();
+        changes.clear();
+        roundRobin = 0;
+    }
+
+    public static int getCachedCount() {
+        return cache.size();
+    }
+}
@@ -0,0 +1,300 @@
+package com.tvmod.client;
+
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cached method handle dispatch for MCEF / CinemaMod MCEF browser objects.
+ * Each browser class is resolved once; when both API flavours exist the
+ * variant is chosen here and adapted to a single normalized signature.
+ */
+@OnlyIn(Dist.CLIENT)
+public final class BrowserBridge {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final Map<Class<?>, BrowserBridge> BRIDGES = new ConcurrentHashMap<>();
+
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType ACTION = MethodType.methodType(void.class, Object.class);
+    private static final MethodType STRING_ACTION = MethodType.methodType(void.class, Object.class, String.class);
+    private static final MethodType INT_ACTION = MethodType.methodType(void.class, Object.class, int.class);
+    private static final MethodType SIZE_ACTION = MethodType.methodType(void.class, Object.class, int.class, int.class);
+    private static final MethodType KEY_ACTION = MethodType.methodType(void.class, Object.class, int.class, long.class, int.class);
+    private static final MethodType CHAR_ACTION = MethodType.methodType(void.class, Object.class, char.class, int.class);
+    private static final MethodType CLICK_ACTION = MethodType.methodType(void.class, Object.class, int.class, int.class, int.class);
+    private static final MethodType WHEEL_ACTION = MethodType.methodType(void.class, Object.class, int.class, int.class, int.class, int.class);
+
+    private final Class<?> browserClass;
+
+    @Nullable private final MethodHandle loadUrl;
+    @Nullable private final MethodHandle runJs;
+    @Nullable private final MethodHandle resize;
+    @Nullable private final MethodHandle setFrameRate;
+    @Nullable private final MethodHandle close;
+    @Nullable private final MethodHandle getTextureId;
+    @Nullable private final MethodHandle getTextureLocation;
+    @Nullable private final MethodHandle getTitle;
+    @Nullable private final MethodHandle isLoading;
+    @Nullable private final MethodHandle canGoBack;
+    @Nullable private final MethodHandle canGoForward;
+    @Nullable private final MethodHandle goBack;
+    @Nullable private final MethodHandle goForward;
+    @Nullable private final MethodHandle reload;
+    @Nullable private final MethodHandle keyPress;
+    @Nullable private final MethodHandle keyRelease;
+    @Nullable private final MethodHandle keyTyped;
+    @Nullable private final MethodHandle mouseMove;
+    @Nullable private final MethodHandle mousePress;
+    @Nullable private final MethodHandle mouseRelease;
+    @Nullable private final MethodHandle mouseWheel;
+
+    private BrowserBridge(Class<?> type) {
+        this.browserClass = type;
+
+        this.loadUrl = adapt(find(type, "loadURL", String.class), STRING_ACTION);
+
+        MethodHandle js = find(type, "runJS", String.class, String.class);
+        if (js != null) {
+            js = MethodHandles.insertArguments(js, 2, "");
+        } else {
+            js = find(type, "executeJavaScript", String.class);
+        }
+        this.runJs = adapt(js, STRING_ACTION);
+
+        this.resize = adapt(find(type, "resize", int.class, int.class), SIZE_ACTION);
+
+        MethodHandle frameRate = find(type, "setWindowlessFrameRate", int.class);
+        if (frameRate == null) {
+            frameRate = find(type, "setFrameRate", int.class);
+        }
+        this.setFrameRate = adapt(frameRate, INT_ACTION);
+
+        this.close = adapt(find(type, "close"), ACTION);
+
+        this.getTextureId = adapt(find(type, "getTextureID"), GETTER);
+        this.getTextureLocation = adapt(find(type, "getTextureLocation"), GETTER);
+        this.getTitle = adapt(find(type, "getTitle"), GETTER);
+        this.isLoading = adapt(find(type, "isLoading"), GETTER);
+        this.canGoBack = adapt(find(type, "canGoBack"), GETTER);
+        this.canGoForward = adapt(find(type, "canGoForward"), GETTER);
+        this.goBack = adapt(find(type, "goBack"), ACTION);
+        this.goForward = adapt(find(type, "goForward"), ACTION);
+        this.reload = adapt(find(type, "reload"), ACTION);
+
+        // CinemaMod: sendKeyPress(key, scanCode, mods); montoyo: injectKeyPressed(key, mods)
+        MethodHandle press = find(type, "sendKeyPress", int.class, long.class, int.class);
+        MethodHandle release = find(type, "sendKeyRelease", int.class, long.class, int.class);
+        if (press == null) {
+            press = dropScanCode(find(type, "injectKeyPressed", int.class, int.class));
+        }
+        if (release == null) {
+            release = dropScanCode(find(type, "injectKeyReleased", int.class, int.class));
+        }
+        this.keyPress = adapt(press, KEY_ACTION);
+        this.keyRelease = adapt(release, KEY_ACTION);
+
+        MethodHandle typed = find(type, "sendKeyTyped", char.class, int.class);
+        if (typed == null) {
+            typed = find(type, "injectKeyTyped", char.class, int.class);
+        }
+        this.keyTyped = adapt(typed, CHAR_ACTION);
+
+        MethodHandle move = find(type, "sendMouseMove", int.class, int.class);
+        if (move == null) {
+            move = find(type, "injectMouseMove", int.class, int.class, int.class, boolean.class);
+            if (move != null) {
+                move = MethodHandles.insertArguments(move, 3, 0, false);
+            }
+        }
+        this.mouseMove = adapt(move, SIZE_ACTION);
+
+        MethodHandle mousePress = find(type, "sendMousePress", int.class, int.class, int.class);
+        MethodHandle mouseRelease = find(type, "sendMouseRelease", int.class, int.class, int.class);
+        if (mousePress == null || mouseRelease == null) {
+            MethodHandle button = find(type, "injectMouseButton", int.class, int.class, int.class, boolean.class, int.class);
+            if (button != null) {
+                mousePress = MethodHandles.insertArguments(button, 3, 0, true);
+                mouseRelease = MethodHandles.insertArguments(button, 3, 0, false);
+            }
+        }
+        this.mousePress = adapt(mousePress, CLICK_ACTION);
+        this.mouseRelease = adapt(mouseRelease, CLICK_ACTION);
+
+        // montoyo only takes a vertical amount: (x, y, mods, amount)
+        MethodHandle wheel = find(type, "sendMouseWheel", int.class, int.class, int.class, int.class);
+        if (wheel == null) {
+            wheel = find(type, "injectMouseWheel", int.class, int.class, int.class, int.class);
+            if (wheel != null) {
+                wheel = MethodHandles.dropArguments(MethodHandles.insertArguments(wheel, 3, 0), 3, int.class);
+            }
+        }
+        this.mouseWheel = adapt(wheel, WHEEL_ACTION);
+    }
+
+    public static BrowserBridge forBrowser(Object browser) {
+        return BRIDGES.computeIfAbsent(browser.getClass(), BrowserBridge::new);
+    }
+
+    @Nullable
+    private static MethodHandle find(Class<?> type, String name, Class<?>... params) {
+        try {
+            Method method = type.getMethod(name, params);
+            try {
+                method.setAccessible(true);
+            } catch (SecurityException e) {}
+            return LOOKUP.unreflect(method);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    @Nullable
+    private static MethodHandle dropScanCode(@Nullable MethodHandle handle) {
+        return handle != null ? MethodHandles.dropArguments(handle, 2, long.class) : null;
+    }
+
+    @Nullable
+    private static MethodHandle adapt(@Nullable MethodHandle handle, MethodType type) {
+        if (handle == null) return null;
+        try {
+            return handle.asType(type);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    public Class<?> getBrowserClass() { return browserClass; }
+
+    public boolean loadUrl(Object browser, String url) {
+        if (loadUrl == null) return false;
+        try {
+            loadUrl.invokeExact(browser, url);
+            return true;
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    public boolean executeJavaScript(Object browser, String script) {
+        if (runJs == null) return false;
+        TVMetrics.JS_CALLS.increment();
+        try {
+            runJs.invokeExact(browser, script);
+            return true;
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    public boolean resize(Object browser, int width, int height) {
+        if (resize == null) return false;
+        try {
+            resize.invokeExact(browser, width, height);
+            return true;
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    public boolean setFrameRate(Object browser, int frameRate) {
+        if (setFrameRate == null) return false;
+        try {
+            setFrameRate.invokeExact(browser, frameRate);
+            return true;
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    public boolean close(Object browser) {
+        return run(close, browser);
+    }
+
+    public boolean goBack(Object browser) { return run(goBack, browser); }
+    public boolean goForward(Object browser) { return run(goForward, browser); }
+    public boolean reload(Object browser) { return run(reload, browser); }
+
+    public int getTextureId(Object browser) {
+        Object result = get(getTextureId, browser);
+        return result instanceof Integer ? (Integer) result : -1;
+    }
+
+    @Nullable
+    public Object getTextureLocation(Object browser) {
+        return get(getTextureLocation, browser);
+    }
+
+    public String getTitle(Object browser) {
+        Object result = get(getTitle, browser);
+        return result instanceof String ? (String) result : "";
+    }
+
+    public boolean isLoading(Object browser) { return Boolean.TRUE.equals(get(isLoading, browser)); }
+    public boolean canGoBack(Object browser) { return Boolean.TRUE.equals(get(canGoBack, browser)); }
+    public boolean canGoForward(Object browser) { return Boolean.TRUE.equals(get(canGoForward, browser)); }
+
+    public void sendKey(Object browser, int keyCode, long scanCode, int modifiers, boolean pressed) {
+        MethodHandle handle = pressed ? keyPress : keyRelease;
+        if (handle == null) return;
+        try {
+            handle.invokeExact(browser, keyCode, scanCode, modifiers);
+        } catch (Throwable t) {}
+    }
+
+    public void sendKeyTyped(Object browser, char character, int modifiers) {
+        if (keyTyped == null) return;
+        try {
+            keyTyped.invokeExact(browser, character, modifiers);
+        } catch (Throwable t) {}
+    }
+
+    public void sendMouseMove(Object browser, int x, int y) {
+        if (mouseMove == null) return;
+        try {
+            mouseMove.invokeExact(browser, x, y);
+        } catch (Throwable t) {}
+    }
+
+    public void sendMouseButton(Object browser, int x, int y, int button, boolean pressed) {
+        MethodHandle handle = pressed ? mousePress : mouseRelease;
+        if (handle == null) return;
+        try {
+            handle.invokeExact(browser, x, y, button);
+        } catch (Throwable t) {}
+    }
+
+    public void sendMouseWheel(Object browser, int x, int y, int scrollX, int scrollY) {
+        if (mouseWheel == null) return;
+        try {
+            mouseWheel.invokeExact(browser, x, y, scrollX, scrollY);
+        } catch (Throwable t) {}
+    }
+
+    private static boolean run(@Nullable MethodHandle handle, Object browser) {
+        if (handle == null) return false;
+        try {
+            handle.invokeExact(browser);
+            return true;
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    @Nullable
+    private static Object get(@Nullable MethodHandle handle, Object browser) {
+        if (handle == null) return null;
+        try {
+            return (Object) handle.invokeExact(browser);
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.tvmod.client;
+
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+import javax.annotation.Nullable;
+
+/**
+ * Coalesces video control commands for one browser. Only the latest value of
+ * each property is kept, values equal to what the page already has are
+ * dropped, and everything pending is drained as a single script per tick.
+ * The script talks to the injected {@link PageController}.
+ */
+@OnlyIn(Dist.CLIENT)
+public class BrowserCommandBuffer {
+
+    private static final int UNKNOWN = -1;
+
+    private float volume = Float.NaN;
+    private float rate = Float.NaN;
+    private int paused = UNKNOWN;
+    private int hidden = UNKNOWN;
+    private double seekSeconds = -1;
+
+    private float sentVolume = Float.NaN;
+    private float sentRate = Float.NaN;
+    private int sentPaused = UNKNOWN;
+    private int sentHidden = UNKNOWN;
+
+    public void setVolume(float volume) {
+        this.volume = volume;
+    }
+
+    public void setRate(float rate) {
+        this.rate = rate;
+    }
+
+    public void setPaused(boolean paused) {
+        this.paused = paused ? 1 : 0;
+    }
+
+    public void setHidden(boolean hidden) {
+        this.hidden = hidden ? 1 : 0;
+    }
+
+    public void seek(long positionMs) {
+        this.seekSeconds = Math.max(0, positionMs) / 1000.0;
+    }
+
+    public boolean hasPending() {
+        return (!Float.isNaN(volume) && Float.compare(volume, sentVolume) != 0)
+                || (!Float.isNaN(rate) && Float.compare(rate, sentRate) != 0)
+                || (paused != UNKNOWN && paused != sentPaused)
+                || (hidden != UNKNOWN && hidden != sentHidden)
+                || seekSeconds >= 0;
+    }
+
+    /**
+     * Forgets what was sent so the next drain re-applies every known value,
+     * e.g. after the page was reloaded and the video element was recreated.
+     */
+    public void invalidate() {
+        sentVolume = Float.NaN;
+        sentRate = Float.NaN;
+        sentPaused = UNKNOWN;
+        sentHidden = UNKNOWN;
+    }
+
+    public void clear() {
+        volume = Float.NaN;
+        rate = Float.NaN;
+        paused = UNKNOWN;
+        hidden = UNKNOWN;
+        seekSeconds = -1;
+        invalidate();
+    }
+
+    /**
+     * Builds the combined script for everything that changed since the last
+     * drain and marks it as sent. Returns null when there is nothing to do.
+     */
+    @Nullable
+    public String drain() {
+        if (!hasPending()) return null;
+
+        StringBuilder body = new StringBuilder(96);
+        if (seekSeconds >= 0) {
+            body.append("__tv.seek(").append(seekSeconds).append(");");
+            seekSeconds = -1;
+        }
+        if (!Float.isNaN(volume) && Float.compare(volume, sentVolume) != 0) {
+            body.append("__tv.vol(").append(volume).append(");");
+            sentVolume = volume;
+        }
+        if (!Float.isNaN(rate) && Float.compare(rate, sentRate) != 0) {
+            body.append("__tv.rate(").append(rate).append(");");
+            sentRate = rate;
+        }
+        if (paused != UNKNOWN && paused != sentPaused) {
+            body.append(paused == 1 ? "__tv.pause();" : "__tv.play();");
+            sentPaused = paused;
+        }
+        if (hidden != UNKNOWN && hidden != sentHidden) {
+            body.append(hidden == 1 ? "__tv.hide(true);" : "__tv.hide(false);");
+            sentHidden = hidden;
+        }
+
+        return "if(window.__tv){" + body + "}";
+    }
+}
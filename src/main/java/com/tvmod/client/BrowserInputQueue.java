@@ -0,0 +1,136 @@
+package com.tvmod.client;
+
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Buffers browser input between render frames. Consecutive mouse moves are
+ * merged into the latest position and consecutive scroll events add up their
+ * deltas, while key, character and click events keep their relative order.
+ * Event objects are reused, so steady-state queuing does not allocate.
+ */
+@OnlyIn(Dist.CLIENT)
+public class BrowserInputQueue {
+
+    private static final int MOVE = 0;
+    private static final int WHEEL = 1;
+    private static final int CLICK = 2;
+    private static final int KEY = 3;
+    private static final int CHAR = 4;
+
+    private static final class InputEvent {
+        int type;
+        int x, y;
+        int code;
+        long scanCode;
+        int modifiers;
+        boolean pressed;
+        char character;
+        double deltaX, deltaY;
+    }
+
+    private final List<InputEvent> events = new ArrayList<>();
+    private int size = 0;
+
+    private InputEvent next(int type) {
+        InputEvent event;
+        if (size < events.size()) {
+            event = events.get(size);
+        } else {
+            event = new InputEvent();
+            events.add(event);
+        }
+        size++;
+        event.type = type;
+        return event;
+    }
+
+    @Nullable
+    private InputEvent last(int type) {
+        if (size == 0) return null;
+        InputEvent event = events.get(size - 1);
+        return event.type == type ? event : null;
+    }
+
+    public void mouseMove(int x, int y) {
+        InputEvent event = last(MOVE);
+        if (event == null) event = next(MOVE);
+        event.x = x;
+        event.y = y;
+    }
+
+    public void mouseWheel(int x, int y, double deltaX, double deltaY) {
+        InputEvent event = last(WHEEL);
+        if (event == null) {
+            event = next(WHEEL);
+            event.deltaX = 0;
+            event.deltaY = 0;
+        }
+        event.x = x;
+        event.y = y;
+        event.deltaX += deltaX;
+        event.deltaY += deltaY;
+    }
+
+    public void mouseButton(int x, int y, int button, boolean pressed) {
+        InputEvent event = next(CLICK);
+        event.x = x;
+        event.y = y;
+        event.code = button;
+        event.pressed = pressed;
+    }
+
+    public void key(int keyCode, long scanCode, int modifiers, boolean pressed) {
+        InputEvent event = next(KEY);
+        event.code = keyCode;
+        event.scanCode = scanCode;
+        event.modifiers = modifiers;
+        event.pressed = pressed;
+    }
+
+    public void character(char character, int modifiers) {
+        InputEvent event = next(CHAR);
+        event.character = character;
+        event.modifiers = modifiers;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Delivers all queued events to the browser in order and empties the queue.
+     */
+    public void flush(BrowserBridge bridge, Object browser) {
+        for (int i = 0; i < size; i++) {
+            InputEvent event = events.get(i);
+            switch (event.type) {
+                case MOVE:
+                    bridge.sendMouseMove(browser, event.x, event.y);
+                    break;
+                case WHEEL:
+                    bridge.sendMouseWheel(browser, event.x, event.y,
+                            (int) (event.deltaX * 120), (int) (event.deltaY * 120));
+                    break;
+                case CLICK:
+                    bridge.sendMouseButton(browser, event.x, event.y, event.code, event.pressed);
+                    break;
+                case KEY:
+                    bridge.sendKey(browser, event.code, event.scanCode, event.modifiers, event.pressed);
+                    break;
+                case CHAR:
+                    bridge.sendKeyTyped(browser, event.character, event.modifiers);
+                    break;
+            }
+        }
+        size = 0;
+    }
+}
@@ -0,0 +1,180 @@
+package com.tvmod.client;
+
+import com.tvmod.TVMod;
+import com.tvmod.config.ClientConfig;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Bounded pool of MCEF browsers. Released browsers are reset to about:blank
+ * and kept idle so a player coming back into range gets a running Chromium
+ * instance instead of a cold start. Idle browsers are closed after a timeout.
+ */
+@OnlyIn(Dist.CLIENT)
+public class BrowserPool {
+
+    private static final int DEFAULT_WIDTH = 854;
+    private static final int DEFAULT_HEIGHT = 480;
+
+    private static final Deque<IdleBrowser> idle = new ArrayDeque<>();
+    private static Object api = null;
+    // (api, url, transparent) -> browser, resolved together with the api
+    private static MethodHandle createBrowser = null;
+    private static boolean apiFailed = false;
+    private static boolean used = false;
+    private static long tickCount = 0;
+
+    private static class IdleBrowser {
+        final Object browser;
+        final long releasedAt;
+
+        IdleBrowser(Object browser, long releasedAt) {
+            this.browser = browser;
+            this.releasedAt = releasedAt;
+        }
+    }
+
+    /**
+     * Leases a warm browser if one is idle, otherwise returns null.
+     */
+    @Nullable
+    public static Object acquireWarm(int width, int height) {
+        IdleBrowser entry = idle.pollFirst();
+        if (entry == null) return null;
+
+        used = true;
+        BrowserBridge.forBrowser(entry.browser).resize(entry.browser, width, height);
+        TVMod.LOGGER.debug("Leased warm MCEF browser ({} idle left)", idle.size());
+        return entry.browser;
+    }
+
+    /**
+     * Creates a new browser on about:blank. Returns null if MCEF is not usable.
+     */
+    @Nullable
+    public static Object create(int width, int height) {
+        Object mcefApi = getApi();
+        if (mcefApi == null) return null;
+
+        try {
+            Object browser = (Object) createBrowser.invokeExact(mcefApi, "about:blank", true);
+
+            if (browser == null) {
+                TVMod.LOGGER.error("createBrowser returned null");
+                return null;
+            }
+
+            BrowserBridge.forBrowser(browser).resize(browser, width, height);
+            used = true;
+            TVMetrics.BROWSER_CREATES.increment();
+            TVMod.LOGGER.info("MCEF browser created and resized to {}x{}", width, height);
+            return browser;
+        } catch (Throwable t) {
+            TVMod.LOGGER.error("Failed to create MCEF browser: {}", t.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Returns a leased browser. It is reset to about:blank and kept for reuse,
+     * or closed if the pool is already full.
+     */
+    public static void release(Object browser) {
+        BrowserBridge bridge = BrowserBridge.forBrowser(browser);
+        bridge.loadUrl(browser, "about:blank");
+        TVMetrics.BROWSER_RELEASES.increment();
+
+        if (idle.size() < ClientConfig.BROWSER_POOL_MAX_SIZE.get()) {
+            idle.addFirst(new IdleBrowser(browser, tickCount));
+            TVMod.LOGGER.debug("Returned MCEF browser to pool ({} idle)", idle.size());
+        } else {
+            close(browser);
+        }
+    }
+
+    private static void close(Object browser) {
+        BrowserBridge.forBrowser(browser).close(browser);
+        TVMetrics.BROWSER_CLOSES.increment();
+    }
+
+    public static void tick() {
+        tickCount++;
+        if (!used) return;
+
+        // Keep the warm set; only browsers above it are closed once idle too long
+        int warmSize = Math.min(ClientConfig.BROWSER_POOL_WARM_SIZE.get(), ClientConfig.BROWSER_POOL_MAX_SIZE.get());
+        long maxIdleTicks = ClientConfig.BROWSER_POOL_IDLE_SECONDS.get() * 20L;
+        while (idle.size() > warmSize) {
+            IdleBrowser oldest = idle.peekLast();
+            if (tickCount - oldest.releasedAt < maxIdleTicks) break;
+            idle.pollLast();
+            close(oldest.browser);
+            TVMod.LOGGER.debug("Closed idle MCEF browser ({} idle left)", idle.size());
+        }
+
+        // Top up at most one browser per tick so pre-warming never stalls a frame
+        if (idle.size() < warmSize && !apiFailed) {
+            Object browser = create(DEFAULT_WIDTH, DEFAULT_HEIGHT);
+            if (browser != null) {
+                idle.addFirst(new IdleBrowser(browser, tickCount));
+            }
+        }
+    }
+
+    public static void clear() {
+        for (IdleBrowser entry : idle) {
+            close(entry.browser);
+        }
+        idle.clear();
+        used = false;
+    }
+
+    public static int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * The MCEF API object, with its createBrowser method resolved. Null until
+     * MCEF has finished loading, which is retried on every call.
+     */
+    @Nullable
+    private static Object getApi() {
+        if (api != null || apiFailed) return api;
+
+        try {
+            Class<?> mcefApiClass = Class.forName("net.montoyo.mcef.api.MCEFApi");
+            boolean isLoaded = (Boolean) mcefApiClass.getMethod("isMCEFLoaded").invoke(null);
+
+            if (!isLoaded) {
+                TVMod.LOGGER.debug("MCEF is not loaded yet");
+                return null;
+            }
+
+            Object loaded = mcefApiClass.getMethod("getAPI").invoke(null);
+            if (loaded == null) {
+                TVMod.LOGGER.debug("MCEFApi.getAPI() returned null");
+                return null;
+            }
+
+            Method method = loaded.getClass().getMethod("createBrowser", String.class, boolean.class);
+            try {
+                method.setAccessible(true);
+            } catch (SecurityException e) {}
+            createBrowser = MethodHandles.lookup().unreflect(method)
+                    .asType(MethodType.methodType(Object.class, Object.class, String.class, boolean.class));
+            api = loaded;
+        } catch (Exception e) {
+            TVMod.LOGGER.error("Failed to access MCEF API: {}", e.getMessage());
+            apiFailed = true;
+        }
+        return api;
+    }
+}
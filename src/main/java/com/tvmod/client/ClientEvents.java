@@ -2,21 +2,54 @@ package com.tvmod.client;
 
 import com.tvmod.TVMod;
 import com.tvmod.block.TVBlock;
+import com.tvmod.config.ClientConfig;
 import net.minecraft.block.BlockState;
 import net.minecraft.client.Minecraft;
+import net.minecraft.client.settings.KeyBinding;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.text.TranslationTextComponent;
 import net.minecraft.world.World;
 import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
+import net.minecraftforge.client.event.RenderGameOverlayEvent;
+import net.minecraftforge.fml.client.registry.ClientRegistry;
 import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.ChunkEvent;
 import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
+import org.lwjgl.glfw.GLFW;
+
+import java.io.File;
 
 @Mod.EventBusSubscriber(modid = TVMod.MOD_ID, value = Dist.CLIENT)
 public class ClientEvents {
 
     private static int tickCounter = 0;
     private static final int CLEANUP_INTERVAL = 5;
+    // Removal is event driven; the block check only catches missed events
+    private static final int SAFETY_SWEEP_INTERVAL = 200;
+
+    // Stable keys so a cleanup still waiting in the tick queue isn't queued twice
+    private static final Runnable CLEANUP_DISTANT = VideoPlayerManager::cleanupDistant;
+    private static final Runnable CLEANUP_INVALID = VideoPlayerManager::cleanupInvalidBlocks;
+    private static final Runnable TEXTURE_AUDIT = ScreenTextures::audit;
+    private static final Runnable BUFFER_TRIM = ClientEvents::trimBufferPool;
+    private static final int TEXTURE_AUDIT_INTERVAL = 20;
+
+    // Unbound by default; set them under Controls when needed
+    private static final String KEY_CATEGORY = "key.categories.tvmod";
+    public static final KeyBinding TOGGLE_METRICS = new KeyBinding("key.tvmod.toggle_metrics",
+            GLFW.GLFW_KEY_UNKNOWN, KEY_CATEGORY);
+    public static final KeyBinding DUMP_METRICS = new KeyBinding("key.tvmod.dump_metrics",
+            GLFW.GLFW_KEY_UNKNOWN, KEY_CATEGORY);
+
+    public static void registerKeyBindings() {
+        ClientRegistry.registerKeyBinding(TOGGLE_METRICS);
+        ClientRegistry.registerKeyBinding(DUMP_METRICS);
+    }
 
     @SubscribeEvent
     public static void onClientTick(TickEvent.ClientTickEvent event) {
@@ -24,16 +57,102 @@ public class ClientEvents {
             return;
         }
 
-        VideoPlayerManager.tick();
-
+        // Cleanup is deferred, so it runs inside the tick's work budget
         tickCounter++;
-        if (tickCounter >= CLEANUP_INTERVAL) {
+        if (tickCounter % CLEANUP_INTERVAL == 0) {
+            VideoPlayerManager.defer(CLEANUP_DISTANT, CLEANUP_DISTANT);
+        }
+        if (tickCounter % TEXTURE_AUDIT_INTERVAL == 0) {
+            VideoPlayerManager.defer(TEXTURE_AUDIT, TEXTURE_AUDIT);
+            VideoPlayerManager.defer(BUFFER_TRIM, BUFFER_TRIM);
+        }
+        if (tickCounter >= SAFETY_SWEEP_INTERVAL) {
             tickCounter = 0;
-            VideoPlayerManager.cleanupInvalidBlocks();
-            VideoPlayerManager.cleanupDistant(64.0);
+            VideoPlayerManager.defer(CLEANUP_INVALID, CLEANUP_INVALID);
+        }
+
+        VideoPlayerManager.tick();
+        BrowserPool.tick();
+        handleKeys();
+    }
+
+    private static void trimBufferPool() {
+        FrameBufferPool.trim(ClientConfig.BUFFER_POOL_MB.get() * 1024L * 1024L,
+                ClientConfig.BUFFER_POOL_IDLE_SECONDS.get() * 1_000_000_000L);
+    }
+
+    private static void handleKeys() {
+        Minecraft mc = Minecraft.getInstance();
+        while (TOGGLE_METRICS.consumeClick()) {
+            boolean show = !ClientConfig.SHOW_METRICS_OVERLAY.get();
+            ClientConfig.SHOW_METRICS_OVERLAY.set(show);
+            if (mc.player != null) {
+                mc.player.displayClientMessage(new TranslationTextComponent(
+                        show ? "tvmod.metrics.overlay_on" : "tvmod.metrics.overlay_off"), true);
+            }
+        }
+        while (DUMP_METRICS.consumeClick()) {
+            File file = TVMetrics.dumpCsv(new File(mc.gameDirectory, TVMod.MOD_ID));
+            if (mc.player != null) {
+                mc.player.displayClientMessage(file != null
+                        ? new TranslationTextComponent("tvmod.metrics.dumped", file.getName())
+                        : new TranslationTextComponent("tvmod.metrics.dump_failed"), false);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onDebugOverlay(RenderGameOverlayEvent.Text event) {
+        if (!Minecraft.getInstance().options.renderDebug || !ClientConfig.SHOW_METRICS_OVERLAY.get()) {
+            return;
+        }
+        event.getRight().add("");
+        event.getRight().addAll(TVMetrics.getOverlayLines());
+    }
+
+    @SubscribeEvent
+    public static void onRenderTick(TickEvent.RenderTickEvent event) {
+        if (event.phase == TickEvent.Phase.START) {
+            ScreenTextures.beginFrame();
+            VideoPlayerManager.flushInput();
+            VideoPlayerManager.uploadFrames();
         }
     }
 
+    /**
+     * Only raised where the world ticks, so in singleplayer this arrives from
+     * the integrated server; AudioOcclusion refreshes on a timer otherwise.
+     */
+    @SubscribeEvent
+    public static void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        if (event.getWorld() instanceof World) {
+            AudioOcclusion.onBlockChanged(((World) event.getWorld()).dimension(), event.getPos());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onChunkUnload(ChunkEvent.Unload event) {
+        if (event.getWorld() != null && event.getWorld().isClientSide()) {
+            ChunkPos chunkPos = event.getChunk().getPos();
+            VideoPlayerManager.removeChunk(chunkPos.x, chunkPos.z);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onRespawn(ClientPlayerNetworkEvent.RespawnEvent event) {
+        // Fired on dimension change; nothing from the old dimension stays valid
+        if (event.getOldPlayer().level != event.getNewPlayer().level) {
+            TVMod.LOGGER.info("Dimension changed - clearing video players");
+            VideoPlayerManager.clear();
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLoggedOut(ClientPlayerNetworkEvent.LoggedOutEvent event) {
+        VideoPlayerManager.clear();
+        FrameBufferPool.clear();
+    }
+
     @SubscribeEvent
     public static void onWorldUnload(WorldEvent.Unload event) {
         if (event.getWorld().isClientSide()) {
@@ -0,0 +1,45 @@
+package com.tvmod.client;
+
+import net.minecraft.client.renderer.texture.Texture;
+import net.minecraft.resources.IResourceManager;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+/**
+ * Wraps a GL texture owned by a playback backend so it can be bound through
+ * the TextureManager. Frames are never copied; the id is only borrowed and
+ * is cleared on {@link #close}, so releasing this texture afterwards leaves
+ * the backend's texture alive for other TVs in the session.
+ */
+@OnlyIn(Dist.CLIENT)
+public class ExternalTexture extends Texture {
+
+    private int externalId = 0;
+
+    public void setExternalId(int id) {
+        this.externalId = Math.max(0, id);
+    }
+
+    @Override
+    public int getId() {
+        return externalId;
+    }
+
+    @Override
+    public void releaseId() {
+        externalId = 0;
+    }
+
+    /**
+     * Forgets the borrowed id. TextureManager.release deletes whatever
+     * {@link #getId} returns, so this must run before it; deleting id 0 is a
+     * no-op.
+     */
+    @Override
+    public void close() {
+        externalId = 0;
+    }
+
+    @Override
+    public void load(IResourceManager manager) {}
+}
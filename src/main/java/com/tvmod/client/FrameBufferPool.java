@@ -0,0 +1,122 @@
+package com.tvmod.client;
+
+import org.lwjgl.system.MemoryUtil;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Off-heap frame buffers bucketed by exact size. Frame sizes come from a
+ * handful of resolution tiers, so TVs coming and going mostly reuse buffers
+ * instead of calling malloc/free on megabyte blocks. Returned buffers are
+ * kept up to a byte cap and freed once idle; see {@link #trim}.
+ * <p>
+ * Thread safe: frame workers may return buffers. Has no GL dependency.
+ */
+public class FrameBufferPool {
+
+    private static final class Pooled {
+        final ByteBuffer buffer;
+        final long returnedAt;
+
+        Pooled(ByteBuffer buffer, long returnedAt) {
+            this.buffer = buffer;
+            this.returnedAt = returnedAt;
+        }
+    }
+
+    private static final Map<Integer, ArrayDeque<Pooled>> buckets = new HashMap<>();
+    private static long pooledBytes = 0;
+    private static long maxBytes = 64L * 1024 * 1024;
+    private static long hits = 0;
+    private static long misses = 0;
+
+    /**
+     * Borrows a little-endian buffer of exactly {@code bytes}, position 0.
+     * Contents are undefined.
+     */
+    public static ByteBuffer acquire(int bytes) {
+        synchronized (FrameBufferPool.class) {
+            ArrayDeque<Pooled> bucket = buckets.get(bytes);
+            Pooled pooled = bucket != null ? bucket.pollFirst() : null;
+            if (pooled != null) {
+                pooledBytes -= bytes;
+                hits++;
+                pooled.buffer.clear();
+                return pooled.buffer;
+            }
+            misses++;
+        }
+        return MemoryUtil.memAlloc(bytes).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Returns a buffer from {@link #acquire}. It is freed right away if the
+     * pool is full.
+     */
+    public static void release(ByteBuffer buffer) {
+        int bytes = buffer.capacity();
+        synchronized (FrameBufferPool.class) {
+            if (pooledBytes + bytes <= maxBytes) {
+                // Most recently returned first, so idle ones collect at the tail
+                buckets.computeIfAbsent(bytes, key -> new ArrayDeque<>()).addFirst(new Pooled(buffer, System.nanoTime()));
+                pooledBytes += bytes;
+                return;
+            }
+        }
+        MemoryUtil.memFree(buffer);
+    }
+
+    /**
+     * Applies a new byte cap and frees buffers idle for longer than
+     * {@code idleNanos}, then the longest idle ones while over the cap.
+     */
+    public static synchronized void trim(long maxBytes, long idleNanos) {
+        FrameBufferPool.maxBytes = maxBytes;
+        long now = System.nanoTime();
+
+        Iterator<ArrayDeque<Pooled>> it = buckets.values().iterator();
+        while (it.hasNext()) {
+            ArrayDeque<Pooled> bucket = it.next();
+            while (!bucket.isEmpty() && now - bucket.peekLast().returnedAt > idleNanos) {
+                free(bucket.pollLast());
+            }
+            if (bucket.isEmpty()) it.remove();
+        }
+
+        while (pooledBytes > maxBytes) {
+            ArrayDeque<Pooled> oldest = null;
+            for (ArrayDeque<Pooled> bucket : buckets.values()) {
+                if (oldest == null || bucket.peekLast().returnedAt < oldest.peekLast().returnedAt) {
+                    oldest = bucket;
+                }
+            }
+            if (oldest == null) break;
+            free(oldest.pollLast());
+            if (oldest.isEmpty()) buckets.values().remove(oldest);
+        }
+    }
+
+    private static void free(Pooled pooled) {
+        pooledBytes -= pooled.buffer.capacity();
+        MemoryUtil.memFree(pooled.buffer);
+    }
+
+    public static synchronized void clear() {
+        for (ArrayDeque<Pooled> bucket : buckets.values()) {
+            for (Pooled pooled : bucket) {
+                MemoryUtil.memFree(pooled.buffer);
+            }
+        }
+        buckets.clear();
+        pooledBytes = 0;
+    }
+
+    public static synchronized long getPooledBytes() { return pooledBytes; }
+    public static synchronized long getHits() { return hits; }
+    public static synchronized long getMisses() { return misses; }
+}
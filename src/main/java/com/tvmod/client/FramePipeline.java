@@ -0,0 +1,181 @@
+package com.tvmod.client;
+
+import com.mojang.blaze3d.platform.GlStateManager;
+import com.mojang.blaze3d.platform.TextureUtil;
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.tvmod.TVMod;
+import net.minecraft.client.renderer.texture.Texture;
+import net.minecraft.resources.IResourceManager;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GL11;
+import org.lwjgl.opengl.GL15;
+import org.lwjgl.opengl.GL21;
+import org.lwjgl.system.MemoryUtil;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Streams CPU frames from a {@link FrameSource} into a GL texture. Frames are
+ * produced on a shared worker pool into a {@link FrameRing}; the render thread
+ * only swaps in the newest finished frame and hands it to the GPU through a
+ * ring of pixel buffer objects, so the upload does not block on the driver.
+ */
+@OnlyIn(Dist.CLIENT)
+public class FramePipeline extends Texture {
+
+    private static final int PBO_COUNT = 3;
+
+    private static final AtomicInteger WORKER_COUNT = new AtomicInteger();
+    private static final ExecutorService WORKERS = Executors.newFixedThreadPool(
+            Math.max(1, Math.min(2, Runtime.getRuntime().availableProcessors() / 2)), runnable -> {
+                Thread thread = new Thread(runnable, "TVMod Frame Worker " + WORKER_COUNT.incrementAndGet());
+                thread.setDaemon(true);
+                thread.setPriority(Thread.NORM_PRIORITY - 1);
+                return thread;
+            });
+
+    private final FrameRing ring;
+    private final FrameSource source;
+    private final int frameBytes;
+
+    private int[] pbos = null;
+    private int pboIndex = 0;
+    private boolean allocated = false;
+    private long uploadedFrames = 0;
+    // Ring counters already added to TVMetrics
+    private long reportedProduced = 0;
+    private long reportedDropped = 0;
+    private long reportedBusy = 0;
+
+    public FramePipeline(int width, int height, FrameSource source) {
+        this.ring = new FrameRing(width, height);
+        this.source = source;
+        this.frameBytes = width * height * 4;
+    }
+
+    /**
+     * Uploads the newest finished frame, if any, and asks the worker for the
+     * next one. Called once per render frame.
+     */
+    public void update() {
+        RenderSystem.assertThread(RenderSystem::isOnRenderThreadOrInit);
+
+        ByteBuffer frame = ring.acquireLatest();
+        if (frame != null) {
+            upload(frame);
+        }
+        ring.requestFrame(WORKERS, source);
+        reportCounters();
+    }
+
+    /**
+     * Adds what the ring counted since the last call to the global metrics,
+     * so frames of closed pipelines stay counted.
+     */
+    private void reportCounters() {
+        long produced = ring.getProducedFrames();
+        long dropped = ring.getDroppedFrames();
+        long busy = ring.getBusyRequests();
+        TVMetrics.FRAMES_PRODUCED.add(produced - reportedProduced);
+        TVMetrics.FRAMES_DROPPED.add(dropped - reportedDropped);
+        TVMetrics.FRAME_BUSY_REQUESTS.add(busy - reportedBusy);
+        reportedProduced = produced;
+        reportedDropped = dropped;
+        reportedBusy = busy;
+    }
+
+    private void upload(ByteBuffer frame) {
+        int width = ring.getWidth();
+        int height = ring.getHeight();
+        if (!allocated) {
+            TextureUtil.prepareImage(getId(), width, height);
+            setFilter(false, false);
+            allocated = true;
+            if (GL.getCapabilities().OpenGL21) {
+                pbos = new int[PBO_COUNT];
+                for (int i = 0; i < PBO_COUNT; i++) {
+                    pbos[i] = GL15.glGenBuffers();
+                }
+            }
+        } else {
+            bind();
+        }
+
+        GlStateManager._pixelStore(GL11.GL_UNPACK_ROW_LENGTH, 0);
+        GlStateManager._pixelStore(GL11.GL_UNPACK_SKIP_PIXELS, 0);
+        GlStateManager._pixelStore(GL11.GL_UNPACK_SKIP_ROWS, 0);
+        GlStateManager._pixelStore(GL11.GL_UNPACK_ALIGNMENT, 4);
+
+        TVMetrics.TEXTURE_UPLOADS.increment();
+        TVMetrics.TEXTURE_UPLOAD_BYTES.add(frameBytes);
+        if (pbos != null && uploadThroughPbo(frame, width, height)) {
+            uploadedFrames++;
+            return;
+        }
+
+        GlStateManager._texSubImage2D(GL11.GL_TEXTURE_2D, 0, 0, 0, width, height,
+                GL11.GL_RGBA, GL11.GL_UNSIGNED_BYTE, MemoryUtil.memAddress(frame));
+        uploadedFrames++;
+    }
+
+    private boolean uploadThroughPbo(ByteBuffer frame, int width, int height) {
+        int pbo = pbos[pboIndex];
+        pboIndex = (pboIndex + 1) % PBO_COUNT;
+
+        GL15.glBindBuffer(GL21.GL_PIXEL_UNPACK_BUFFER, pbo);
+        // Orphan the previous storage so mapping never waits for a pending transfer
+        GL15.glBufferData(GL21.GL_PIXEL_UNPACK_BUFFER, frameBytes, GL15.GL_STREAM_DRAW);
+        ByteBuffer mapped = GL15.glMapBuffer(GL21.GL_PIXEL_UNPACK_BUFFER, GL15.GL_WRITE_ONLY, frameBytes, null);
+        boolean ok = false;
+        if (mapped != null) {
+            MemoryUtil.memCopy(MemoryUtil.memAddress(frame), MemoryUtil.memAddress(mapped), frameBytes);
+            ok = GL15.glUnmapBuffer(GL21.GL_PIXEL_UNPACK_BUFFER);
+            if (ok) {
+                GL11.glTexSubImage2D(GL11.GL_TEXTURE_2D, 0, 0, 0, width, height,
+                        GL11.GL_RGBA, GL11.GL_UNSIGNED_BYTE, 0L);
+            }
+        }
+        GL15.glBindBuffer(GL21.GL_PIXEL_UNPACK_BUFFER, 0);
+
+        if (!ok) {
+            TVMod.LOGGER.debug("PBO upload failed, falling back to direct uploads");
+            deletePbos();
+        }
+        return ok;
+    }
+
+    private void deletePbos() {
+        if (pbos == null) return;
+        for (int pbo : pbos) {
+            GL15.glDeleteBuffers(pbo);
+        }
+        pbos = null;
+    }
+
+    public int getWidth() { return ring.getWidth(); }
+    public int getHeight() { return ring.getHeight(); }
+    public long getUploadedFrames() { return uploadedFrames; }
+
+    /**
+     * Estimated bytes held: the CPU frame ring, the GL texture and any PBOs.
+     */
+    public long getMemoryBytes() {
+        int buffers = FrameRing.SLOTS + (allocated ? 1 : 0) + (pbos != null ? PBO_COUNT : 0);
+        return (long) frameBytes * buffers;
+    }
+
+    @Override
+    public void load(IResourceManager manager) {}
+
+    @Override
+    public void close() {
+        deletePbos();
+        releaseId();
+        ring.close();
+    }
+}
@@ -0,0 +1,152 @@
+package com.tvmod.client;
+
+import javax.annotation.Nullable;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Triple buffer between a frame worker and the render thread. The worker
+ * fills the write slot while the renderer reads the display slot; a finished
+ * frame is parked in the ready slot and the renderer swaps it in. A frame
+ * replaced before the renderer took it counts as dropped.
+ * <p>
+ * Has no GL dependency, so it can be driven without a window.
+ */
+public class FrameRing implements AutoCloseable {
+
+    public static final int SLOTS = 3;
+
+    private final int width;
+    private final int height;
+    private final ByteBuffer[] slots = new ByteBuffer[SLOTS];
+
+    private int writeSlot = 0;
+    private int readySlot = 1;
+    private int displaySlot = 2;
+    private boolean readyFresh = false;
+    private boolean writing = false;
+    private boolean closed = false;
+    // Sequence number of the last frame the source produced for this ring
+    private long lastSequence = FrameSource.NO_FRAME;
+
+    private long producedFrames = 0;
+    private long droppedFrames = 0;
+    private long displayedFrames = 0;
+    private long busyRequests = 0;
+
+    public FrameRing(int width, int height) {
+        this.width = width;
+        this.height = height;
+        for (int i = 0; i < SLOTS; i++) {
+            slots[i] = FrameBufferPool.acquire(width * height * 4);
+        }
+    }
+
+    /**
+     * Asks {@code source} for the next frame on {@code executor}. Does nothing
+     * and returns false if the previous request is still running.
+     */
+    public boolean requestFrame(Executor executor, FrameSource source) {
+        final ByteBuffer target = beginWrite();
+        if (target == null) return false;
+        final long previous = getLastSequence();
+
+        try {
+            executor.execute(() -> {
+                long sequence = previous;
+                try {
+                    target.clear();
+                    sequence = source.readFrame(target, width, height, previous);
+                } catch (RuntimeException e) {
+                    sequence = previous;
+                } finally {
+                    endWrite(sequence);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            endWrite(previous);
+            return false;
+        }
+    }
+
+    @Nullable
+    private synchronized ByteBuffer beginWrite() {
+        if (closed) return null;
+        if (writing) {
+            busyRequests++;
+            return null;
+        }
+        writing = true;
+        return slots[writeSlot];
+    }
+
+    private synchronized void endWrite(long sequence) {
+        writing = false;
+        if (closed) {
+            free();
+            return;
+        }
+        if (sequence == lastSequence) return;
+
+        lastSequence = sequence;
+        producedFrames++;
+        if (readyFresh) droppedFrames++;
+        int finished = writeSlot;
+        writeSlot = readySlot;
+        readySlot = finished;
+        readyFresh = true;
+    }
+
+    /**
+     * Swaps the newest finished frame into the display slot and returns it,
+     * or returns null if nothing new arrived since the last call. The buffer
+     * stays valid until the next call.
+     */
+    @Nullable
+    public synchronized ByteBuffer acquireLatest() {
+        if (closed || !readyFresh) return null;
+
+        int latest = readySlot;
+        readySlot = displaySlot;
+        displaySlot = latest;
+        readyFresh = false;
+        displayedFrames++;
+        return slots[displaySlot];
+    }
+
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+
+    public synchronized long getLastSequence() { return lastSequence; }
+    public synchronized long getProducedFrames() { return producedFrames; }
+    public synchronized long getDroppedFrames() { return droppedFrames; }
+    public synchronized long getDisplayedFrames() { return displayedFrames; }
+
+    /**
+     * Render-side requests skipped because the worker had not finished the
+     * previous frame.
+     */
+    public synchronized long getBusyRequests() { return busyRequests; }
+
+    /**
+     * Returns the buffers to the pool, or defers that to the worker if it is
+     * mid-frame.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) return;
+        closed = true;
+        if (!writing) free();
+    }
+
+    private void free() {
+        for (int i = 0; i < SLOTS; i++) {
+            if (slots[i] != null) {
+                FrameBufferPool.release(slots[i]);
+                slots[i] = null;
+            }
+        }
+    }
+}
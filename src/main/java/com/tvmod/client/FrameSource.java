@@ -0,0 +1,24 @@
+package com.tvmod.client;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Supplier of CPU-side video frames. Called on a frame worker thread, never
+ * on the render thread, so implementations must be thread-safe. One source
+ * may feed several TVs at once; each consumer keeps its own last sequence
+ * number, so the source itself holds no per-consumer state.
+ */
+@FunctionalInterface
+public interface FrameSource {
+
+    long NO_FRAME = -1;
+
+    /**
+     * Writes the current frame into {@code target} as ABGR ints (RGBA bytes),
+     * {@code width * height} pixels, row by row, and returns its sequence
+     * number. Returns {@code previous}, the number this consumer got last
+     * time (or {@link #NO_FRAME}), if there is no newer frame; the contents
+     * of {@code target} are ignored then.
+     */
+    long readFrame(ByteBuffer target, int width, int height, long previous);
+}
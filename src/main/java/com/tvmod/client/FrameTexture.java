@@ -0,0 +1,75 @@
+package com.tvmod.client;
+
+import com.mojang.blaze3d.platform.GlStateManager;
+import com.mojang.blaze3d.platform.TextureUtil;
+import com.mojang.blaze3d.systems.RenderSystem;
+import net.minecraft.client.renderer.texture.Texture;
+import net.minecraft.resources.IResourceManager;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import org.lwjgl.opengl.GL11;
+
+/**
+ * GL texture fed from a {@link TVFrameBuffer}. Uploads go straight from the
+ * off-heap buffer with glTexSubImage2D, and only when the frame is dirty.
+ */
+@OnlyIn(Dist.CLIENT)
+public class FrameTexture extends Texture {
+
+    private final TVFrameBuffer frame;
+    private boolean allocated = false;
+
+    public FrameTexture(TVFrameBuffer frame) {
+        this.frame = frame;
+    }
+
+    public TVFrameBuffer getFrame() { return frame; }
+
+    /**
+     * Estimated bytes held: the CPU frame plus the GL texture once uploaded.
+     */
+    public long getMemoryBytes() {
+        long frameBytes = (long) frame.getWidth() * frame.getHeight() * 4;
+        return allocated ? frameBytes * 2 : frameBytes;
+    }
+
+    /**
+     * Uploads the frame if it changed since the last upload. Returns whether
+     * anything was sent to the GPU.
+     */
+    public boolean upload() {
+        if (!frame.isDirty()) return false;
+        RenderSystem.assertThread(RenderSystem::isOnRenderThreadOrInit);
+
+        int width = frame.getWidth();
+        int height = frame.getHeight();
+        if (!allocated) {
+            TextureUtil.prepareImage(getId(), width, height);
+            setFilter(false, false);
+            allocated = true;
+        } else {
+            bind();
+        }
+
+        GlStateManager._pixelStore(GL11.GL_UNPACK_ROW_LENGTH, 0);
+        GlStateManager._pixelStore(GL11.GL_UNPACK_SKIP_PIXELS, 0);
+        GlStateManager._pixelStore(GL11.GL_UNPACK_SKIP_ROWS, 0);
+        GlStateManager._pixelStore(GL11.GL_UNPACK_ALIGNMENT, 4);
+        GlStateManager._texSubImage2D(GL11.GL_TEXTURE_2D, 0, 0, 0, width, height,
+                GL11.GL_RGBA, GL11.GL_UNSIGNED_BYTE, frame.getAddress());
+        TVMetrics.TEXTURE_UPLOADS.increment();
+        TVMetrics.TEXTURE_UPLOAD_BYTES.add((long) width * height * 4);
+
+        frame.markClean();
+        return true;
+    }
+
+    @Override
+    public void load(IResourceManager manager) {}
+
+    @Override
+    public void close() {
+        releaseId();
+        frame.close();
+    }
+}
@@ -1,15 +1,15 @@
 package com.tvmod.client;
 
 import com.tvmod.TVMod;
+import com.tvmod.client.backend.MCEFBackend;
+import com.tvmod.client.backend.VideoBackends;
 import net.minecraft.client.Minecraft;
-import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 
 import javax.annotation.Nullable;
-import java.lang.reflect.Method;
 
 /**
  * Video player using MCEF (Minecraft Chromium Embedded Framework).
@@ -20,6 +20,10 @@ public class MCEFVideoPlayer {
 
     private final BlockPos pos;
     private Object browser = null;
+    private BrowserBridge bridge = null;
+    private final BrowserCommandBuffer commands = new BrowserCommandBuffer();
+    private final PageController controller = new PageController();
+    private final BrowserInputQueue input = new BrowserInputQueue();
     private boolean mcefAvailable = false;
 
     private String currentUrl = "";
@@ -56,68 +60,37 @@ public class MCEFVideoPlayer {
     private int browserInitTicks = 0;
     private static final int BROWSER_INIT_DELAY = 10;
 
+    private VisibilityState visibility = VisibilityState.VISIBLE;
+    private static final int VISIBLE_FRAME_RATE = 30;
+    private static final int HIDDEN_FRAME_RATE = 1;
+
+    private boolean pageActive = false;
+    private boolean controllerInjected = false;
+    private boolean sawLoading = false;
+    private int pageTicks = 0;
+    private static final int CONTROLLER_POLL_INTERVAL = 10;
+    private static final int PAGE_LOAD_TIMEOUT = 40;
+
     public MCEFVideoPlayer(BlockPos pos) {
         this.pos = pos;
-        checkMCEFAvailability();
-    }
-
-    private void checkMCEFAvailability() {
-        try {
-            Class.forName("net.montoyo.mcef.api.API");
-            mcefAvailable = true;
-            TVMod.LOGGER.info("MCEF detected at {}", pos);
-        } catch (ClassNotFoundException e) {
-            try {
-                Class.forName("com.cinemamod.mcef.MCEF");
-                mcefAvailable = true;
-                TVMod.LOGGER.info("CinemaMod MCEF detected at {}", pos);
-            } catch (ClassNotFoundException e2) {
-                mcefAvailable = false;
-                TVMod.LOGGER.warn("MCEF not found at {} - browser playback unavailable", pos);
-            }
-        }
+        this.mcefAvailable = VideoBackends.isAvailable(MCEFBackend.NAME);
     }
 
     private void initBrowser() {
         if (!mcefAvailable || browser != null) return;
 
-        try {
-            Class<?> mcefApiClass = Class.forName("net.montoyo.mcef.api.MCEFApi");
-            Method isLoadedMethod = mcefApiClass.getMethod("isMCEFLoaded");
-            boolean isLoaded = (Boolean) isLoadedMethod.invoke(null);
-
-            if (!isLoaded) {
-                TVMod.LOGGER.error("MCEF is not loaded yet");
-                mcefAvailable = false;
-                return;
-            }
-
-            Method getApiMethod = mcefApiClass.getMethod("getAPI");
-            Object api = getApiMethod.invoke(null);
-
-            if (api == null) {
-                TVMod.LOGGER.error("MCEFApi.getAPI() returned null");
-                mcefAvailable = false;
-                return;
-            }
-
-            Method createBrowserMethod = api.getClass().getMethod("createBrowser", String.class, boolean.class);
-            browser = createBrowserMethod.invoke(api, "about:blank", true);
-
-            if (browser == null) {
-                TVMod.LOGGER.error("createBrowser returned null");
-                mcefAvailable = false;
-                return;
-            }
-
-            Method resizeMethod = browser.getClass().getMethod("resize", int.class, int.class);
-            resizeMethod.invoke(browser, textureWidth, textureHeight);
-            TVMod.LOGGER.info("MCEF browser created and resized to {}x{}", textureWidth, textureHeight);
+        browser = BrowserPool.acquireWarm(textureWidth, textureHeight);
+        if (browser == null) {
+            browser = BrowserPool.create(textureWidth, textureHeight);
+        }
 
-        } catch (Exception e) {
-            TVMod.LOGGER.error("Failed to initialize MCEF browser: {}", e.getMessage());
+        if (browser == null) {
             mcefAvailable = false;
+            return;
         }
+
+        bridge = BrowserBridge.forBrowser(browser);
+        bridge.setFrameRate(browser, visibility == VisibilityState.VISIBLE ? VISIBLE_FRAME_RATE : HIDDEN_FRAME_RATE);
     }
 
     public void play(String url) { play(url, this.quality); }
@@ -133,6 +106,7 @@ public class MCEFVideoPlayer {
         this.quality = quality != null ? quality : "medium";
         this.sourceIndex = sourceIndex;
         this.isPlaying = true;
+        updatePausedState();
 
         if (mcefAvailable) {
             initBrowser();
@@ -150,12 +124,11 @@ public class MCEFVideoPlayer {
     private void loadUrlInternal(String url) {
         if (browser == null || url == null || url.isEmpty()) return;
 
-        try {
-            Method loadUrlMethod = browser.getClass().getMethod("loadURL", String.class);
-            loadUrlMethod.invoke(browser, url);
+        if (bridge.loadUrl(browser, url)) {
+            onNavigation();
             TVMod.LOGGER.info("MCEF loading URL: {} at {}", url, pos);
-        } catch (Exception e) {
-            TVMod.LOGGER.error("Failed to load URL in MCEF: {}", e.getMessage());
+        } else {
+            TVMod.LOGGER.error("Failed to load URL in MCEF at {}", pos);
         }
     }
 
@@ -173,6 +146,15 @@ public class MCEFVideoPlayer {
         return url;
     }
 
+    public void resize(int width, int height) {
+        if (width == textureWidth && height == textureHeight) return;
+        this.textureWidth = width;
+        this.textureHeight = height;
+        if (browser != null) {
+            bridge.resize(browser, width, height);
+        }
+    }
+
     public void setSourceIndex(int index) {
         if (index >= 0 && index < VIDEO_SOURCES.length) {
             this.sourceIndex = index;
@@ -190,11 +172,7 @@ public class MCEFVideoPlayer {
 
     public void setPlaybackSpeed(float speed) {
         this.playbackSpeed = speed;
-        if (browser != null && isPlaying) {
-            try {
-                executeJavaScript("if(document.querySelector('video')) document.querySelector('video').playbackRate = " + speed + ";");
-            } catch (Exception e) {}
-        }
+        commands.setRate(speed);
     }
 
     public float getPlaybackSpeed() { return playbackSpeed; }
@@ -232,79 +210,83 @@ public class MCEFVideoPlayer {
     public void pause() {
         if (!isPlaying) return;
         this.isPlaying = false;
-        if (browser != null) {
-            try { executeJavaScript("document.querySelector('video').pause();"); } catch (Exception e) {}
-        }
+        updatePausedState();
     }
 
     public void resume() {
         if (isPlaying || currentUrl.isEmpty()) return;
         this.isPlaying = true;
+        updatePausedState();
+    }
+
+    /**
+     * Scales browser work to what the player can perceive: full frame rate
+     * when visible, minimal painting with the video hidden when only audible,
+     * and the video paused while dormant.
+     */
+    public void setVisibility(VisibilityState state) {
+        if (state == visibility) return;
+        this.visibility = state;
+
+        boolean visible = state == VisibilityState.VISIBLE;
         if (browser != null) {
-            try { executeJavaScript("document.querySelector('video').play();"); } catch (Exception e) {}
+            bridge.setFrameRate(browser, visible ? VISIBLE_FRAME_RATE : HIDDEN_FRAME_RATE);
         }
+        commands.setHidden(!visible);
+        updatePausedState();
+    }
+
+    private void updatePausedState() {
+        commands.setPaused(!isPlaying || visibility == VisibilityState.DORMANT);
+    }
+
+    public void seekTo(long position) {
+        commands.seek(position);
     }
 
     public void stop() {
         this.isPlaying = false;
+        commands.clear();
+        pageActive = false;
+        controller.reset();
         if (browser != null) {
-            try {
-                Method loadUrlMethod = browser.getClass().getMethod("loadURL", String.class);
-                loadUrlMethod.invoke(browser, "about:blank");
-            } catch (Exception e) {}
+            bridge.loadUrl(browser, "about:blank");
         }
     }
 
     public void setVolume(float volume) {
         this.volume = Math.max(0.0f, Math.min(1.0f, volume));
-        if (browser != null) {
-            try { executeJavaScript("document.querySelector('video').volume = " + this.volume + ";"); } catch (Exception e) {}
-        }
+        commands.setVolume(this.volume);
     }
 
     private void executeJavaScript(String script) {
         if (browser == null) return;
-        try {
-            Method runJsMethod = browser.getClass().getMethod("runJS", String.class, String.class);
-            runJsMethod.invoke(browser, script, "");
-        } catch (NoSuchMethodException e) {
-            try {
-                Method execJsMethod = browser.getClass().getMethod("executeJavaScript", String.class);
-                execJsMethod.invoke(browser, script);
-            } catch (Exception e2) {}
-        } catch (Exception e) {}
+        bridge.executeJavaScript(browser, script);
     }
 
     public int getTextureId() {
         if (browser == null) return -1;
-        try {
-            Method getTextureMethod = browser.getClass().getMethod("getTextureID");
-            Object result = getTextureMethod.invoke(browser);
-            if (result instanceof Integer) return (Integer) result;
-        } catch (Exception e) {}
-        return -1;
+        return bridge.getTextureId(browser);
     }
 
     public ResourceLocation getTextureLocationAsResource() {
         if (browser == null) return null;
-        try {
-            Method getTexLocMethod = browser.getClass().getMethod("getTextureLocation");
-            Object result = getTexLocMethod.invoke(browser);
-            if (result instanceof ResourceLocation) return (ResourceLocation) result;
-        } catch (Exception e) {}
+        Object result = bridge.getTextureLocation(browser);
+        if (result instanceof ResourceLocation) return (ResourceLocation) result;
         return null;
     }
 
     public Object getTextureLocation() {
         if (browser == null) return null;
-        try {
-            Method getTexLocMethod = browser.getClass().getMethod("getTextureLocation");
-            return getTexLocMethod.invoke(browser);
-        } catch (Exception e) {}
-        return null;
+        return bridge.getTextureLocation(browser);
     }
 
-    public void tick(PlayerEntity player) {
+    /**
+     * Advances browser initialization and the page controller and flushes
+     * queued commands. Spatial volume arrives through setVolume from
+     * VideoPlayerManager's audio pass.
+     */
+    public void tick() {
         if (pendingUrl != null && mcefAvailable) {
             browserInitTicks++;
             if (browser == null) initBrowser();
@@ -319,116 +301,120 @@ public class MCEFVideoPlayer {
             }
         }
 
-        if (player != null && isPlaying) {
-            double distance = Math.sqrt(player.distanceToSqr(pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5));
-            float spatialVolume = VolumeCalculator.calculateVolume(distance, volume);
+        if (browser != null && pendingUrl == null && pageActive) {
+            updatePageController();
+        }
 
-            if (browser != null && distance <= VolumeCalculator.MAX_DISTANCE) {
-                try { executeJavaScript("if(document.querySelector('video')) document.querySelector('video').volume = " + spatialVolume + ";"); } catch (Exception e) {}
+        flushCommands();
+    }
+
+    private void onNavigation() {
+        pageActive = true;
+        controllerInjected = false;
+        sawLoading = false;
+        pageTicks = 0;
+        controller.reset();
+        commands.invalidate();
+    }
+
+    private void updatePageController() {
+        pageTicks++;
+
+        if (!controllerInjected) {
+            if (bridge.isLoading(browser)) {
+                sawLoading = true;
+                return;
+            }
+            if (sawLoading || pageTicks >= PAGE_LOAD_TIMEOUT) {
+                executeJavaScript(PageController.SCRIPT);
+                controllerInjected = true;
+                pageTicks = 0;
+                commands.invalidate();
             }
+            return;
+        }
+
+        if (pageTicks % CONTROLLER_POLL_INTERVAL == 0) {
+            boolean present = controller.update(bridge.getTitle(browser));
+            if (!present && pageTicks >= PAGE_LOAD_TIMEOUT) {
+                // The page navigated on its own and dropped the controller
+                controllerInjected = false;
+                sawLoading = true;
+                pageTicks = 0;
+            }
+        }
+    }
+
+    private void flushCommands() {
+        if (browser == null || pendingUrl != null || !controllerInjected) return;
+        String script = commands.drain();
+        if (script != null) {
+            executeJavaScript(script);
         }
     }
 
     public void release() {
         TVMod.LOGGER.info("Releasing MCEF browser at {}", pos);
 
+        input.clear();
         if (browser != null) {
-            try {
-                Method loadUrlMethod = browser.getClass().getMethod("loadURL", String.class);
-                loadUrlMethod.invoke(browser, "about:blank");
-            } catch (Exception e) {}
-
-            try {
-                Method closeMethod = browser.getClass().getMethod("close");
-                closeMethod.invoke(browser);
-            } catch (Exception e) {}
+            BrowserPool.release(browser);
             browser = null;
+            bridge = null;
         }
 
         isPlaying = false;
         currentUrl = "";
         pendingUrl = null;
+        commands.clear();
+        pageActive = false;
+        controller.reset();
         mcefAvailable = false;
     }
 
     // Navigation Methods
     public void goBack() {
         if (browser == null) return;
-        try {
-            Method method = browser.getClass().getMethod("goBack");
-            method.invoke(browser);
-        } catch (NoSuchMethodException e) {
-            executeJavaScript("history.back();");
-        } catch (Exception e) {}
+        if (!bridge.goBack(browser)) executeJavaScript("history.back();");
+        onNavigation();
     }
 
     public void goForward() {
         if (browser == null) return;
-        try {
-            Method method = browser.getClass().getMethod("goForward");
-            method.invoke(browser);
-        } catch (NoSuchMethodException e) {
-            executeJavaScript("history.forward();");
-        } catch (Exception e) {}
+        if (!bridge.goForward(browser)) executeJavaScript("history.forward();");
+        onNavigation();
     }
 
     public void reload() {
         if (browser == null) return;
-        try {
-            Method method = browser.getClass().getMethod("reload");
-            method.invoke(browser);
-        } catch (NoSuchMethodException e) {
-            executeJavaScript("location.reload();");
-        } catch (Exception e) {}
+        if (!bridge.reload(browser)) executeJavaScript("location.reload();");
+        onNavigation();
     }
 
     public void loadUrl(String url) {
         if (browser == null || url == null || url.isEmpty()) return;
         this.currentUrl = url;
-        try {
-            Method method = browser.getClass().getMethod("loadURL", String.class);
-            method.invoke(browser, url);
-        } catch (Exception e) {}
+        if (bridge.loadUrl(browser, url)) onNavigation();
     }
 
     public String getPageTitle() {
         if (browser == null) return "";
-        try {
-            Method method = browser.getClass().getMethod("getTitle");
-            Object result = method.invoke(browser);
-            if (result instanceof String) return (String) result;
-        } catch (Exception e) {}
-        return "";
+        return PageController.stripTitle(bridge.getTitle(browser));
     }
 
     public boolean isLoading() {
         if (browser == null) return false;
-        try {
-            Method method = browser.getClass().getMethod("isLoading");
-            Object result = method.invoke(browser);
-            if (result instanceof Boolean) return (Boolean) result;
-        } catch (Exception e) {}
-        return false;
+        return bridge.isLoading(browser);
     }
 
     public boolean canGoBack() {
         if (browser == null) return false;
-        try {
-            Method method = browser.getClass().getMethod("canGoBack");
-            Object result = method.invoke(browser);
-            if (result instanceof Boolean) return (Boolean) result;
-        } catch (Exception e) {}
-        return false;
+        return bridge.canGoBack(browser);
     }
 
     public boolean canGoForward() {
         if (browser == null) return false;
-        try {
-            Method method = browser.getClass().getMethod("canGoForward");
-            Object result = method.invoke(browser);
-            if (result instanceof Boolean) return (Boolean) result;
-        } catch (Exception e) {}
-        return false;
+        return bridge.canGoForward(browser);
     }
 
     public Object getBrowser() { return browser; }
@@ -437,79 +423,40 @@ public class MCEFVideoPlayer {
         if (mcefAvailable && browser == null) initBrowser();
     }
 
-    // Input Methods
+    // Input Methods - queued and delivered once per render frame by flushInput
     public void sendKeyEvent(int keyCode, int scanCode, int modifiers, boolean pressed) {
         if (browser == null) return;
-        try {
-            if (pressed) {
-                Method method = browser.getClass().getMethod("sendKeyPress", int.class, long.class, int.class);
-                method.invoke(browser, keyCode, (long) scanCode, modifiers);
-            } else {
-                Method method = browser.getClass().getMethod("sendKeyRelease", int.class, long.class, int.class);
-                method.invoke(browser, keyCode, (long) scanCode, modifiers);
-            }
-        } catch (NoSuchMethodException e) {
-            try {
-                String methodName = pressed ? "injectKeyPressed" : "injectKeyReleased";
-                Method method = browser.getClass().getMethod(methodName, int.class, int.class);
-                method.invoke(browser, keyCode, modifiers);
-            } catch (Exception e2) {}
-        } catch (Exception e) {}
+        input.key(keyCode, scanCode, modifiers, pressed);
     }
 
     public void sendCharEvent(char character, int modifiers) {
         if (browser == null) return;
-        try {
-            Method method = browser.getClass().getMethod("sendKeyTyped", char.class, int.class);
-            method.invoke(browser, character, modifiers);
-        } catch (NoSuchMethodException e) {
-            try {
-                Method method = browser.getClass().getMethod("injectKeyTyped", char.class, int.class);
-                method.invoke(browser, character, modifiers);
-            } catch (Exception e2) {}
-        } catch (Exception e) {}
+        input.character(character, modifiers);
     }
 
     public void sendMouseMoveEvent(int x, int y) {
         if (browser == null) return;
-        try {
-            Method method = browser.getClass().getMethod("sendMouseMove", int.class, int.class);
-            method.invoke(browser, x, y);
-        } catch (NoSuchMethodException e) {
-            try {
-                Method method = browser.getClass().getMethod("injectMouseMove", int.class, int.class, int.class, boolean.class);
-                method.invoke(browser, x, y, 0, false);
-            } catch (Exception e2) {}
-        } catch (Exception e) {}
+        input.mouseMove(x, y);
     }
 
     public void sendMouseClickEvent(int x, int y, int button, boolean pressed) {
         if (browser == null) return;
-        try {
-            String methodName = pressed ? "sendMousePress" : "sendMouseRelease";
-            Method method = browser.getClass().getMethod(methodName, int.class, int.class, int.class);
-            method.invoke(browser, x, y, button);
-        } catch (NoSuchMethodException e) {
-            try {
-                Method method = browser.getClass().getMethod("injectMouseButton", int.class, int.class, int.class, boolean.class, int.class);
-                method.invoke(browser, x, y, 0, pressed, button);
-            } catch (Exception e2) {}
-        } catch (Exception e) {}
+        input.mouseButton(x, y, button, pressed);
     }
 
     public void sendMouseScrollEvent(int x, int y, double deltaX, double deltaY) {
         if (browser == null) return;
-        int scrollX = (int) (deltaX * 120);
-        int scrollY = (int) (deltaY * 120);
-        try {
-            Method method = browser.getClass().getMethod("sendMouseWheel", int.class, int.class, int.class, int.class);
-            method.invoke(browser, x, y, scrollX, scrollY);
-        } catch (NoSuchMethodException e) {
-            try {
-                Method method = browser.getClass().getMethod("injectMouseWheel", int.class, int.class, int.class, int.class);
-                method.invoke(browser, x, y, 0, scrollY);
-            } catch (Exception e2) {}
-        } catch (Exception e) {}
+        input.mouseWheel(x, y, deltaX, deltaY);
+    }
+
+    public void flushInput() {
+        if (browser == null) {
+            input.clear();
+            return;
+        }
+        if (!input.isEmpty()) {
+            input.flush(bridge, browser);
+        }
     }
 
     // Callback Listeners
@@ -535,6 +482,10 @@ public class MCEFVideoPlayer {
     public boolean isMCEFAvailable() { return mcefAvailable; }
     public String getCurrentUrl() { return currentUrl; }
     public float getVolume() { return volume; }
+    public VisibilityState getVisibility() { return visibility; }
+    public boolean hasReportedState() { return controller.hasVideo(); }
+    public long getReportedPosition() { return controller.getPositionMs(playbackSpeed); }
+    public long getReportedDuration() { return controller.getDurationMs(); }
     public BlockPos getPos() { return pos; }
     public int getTextureWidth() { return textureWidth; }
     public int getTextureHeight() { return textureHeight; }
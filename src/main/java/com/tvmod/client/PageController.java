@@ -0,0 +1,121 @@
+package com.tvmod.client;
+
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+/**
+ * Persistent controller injected into the browser page as {@code window.__tv}.
+ * It caches the video element, applies the desired state when it changes or
+ * the element is (re)created, and otherwise leaves the video alone so the
+ * page's own controls keep working. It reports playback state by appending
+ * it to the document title, which MCEFVideoPlayer polls through the browser
+ * bridge.
+ */
+@OnlyIn(Dist.CLIENT)
+public class PageController {
+
+    public static final String TITLE_MARKER = "\u241Ftv:";
+
+    public static final String SCRIPT =
+            "(function(){if(window.__tv)return;" +
+            "var M='" + TITLE_MARKER + "';" +
+            "var t={e:null,s:{},d:false};" +
+            "t.el=function(){if(!t.e||!t.e.isConnected){var n=document.querySelector('video');if(n!==t.e){t.e=n;t.d=true;}}return t.e;};" +
+            "t.sync=function(){var v=t.el();if(!v||!t.d)return;t.d=false;var s=t.s;" +
+            "if(s.seek!=null){v.currentTime=s.seek;s.seek=null;}" +
+            "if(s.vol!=null&&v.volume!==s.vol)v.volume=s.vol;" +
+            "if(s.rate!=null&&v.playbackRate!==s.rate)v.playbackRate=s.rate;" +
+            "if(s.hidden!=null)v.style.visibility=s.hidden?'hidden':'';" +
+            "if(s.paused===true&&!v.paused)v.pause();" +
+            "if(s.paused===false&&v.paused&&!v.ended)v.play();};" +
+            "t.set=function(k,x){t.s[k]=x;t.d=true;t.sync();};" +
+            "t.vol=function(x){t.set('vol',x);};" +
+            "t.rate=function(x){t.set('rate',x);};" +
+            "t.pause=function(){t.set('paused',true);};" +
+            "t.play=function(){t.set('paused',false);};" +
+            "t.seek=function(x){t.set('seek',x);};" +
+            "t.hide=function(h){t.set('hidden',h);};" +
+            "t.report=function(){t.sync();var v=t.el();var b=document.title||'';var i=b.indexOf(M);if(i>=0)b=b.substring(0,i);" +
+            "if(!v){document.title=b+M;return;}" +
+            "var d=isFinite(v.duration)?v.duration:-1;" +
+            "document.title=b+M+v.currentTime.toFixed(3)+','+d+','+(v.ended?1:0)+','+(v.paused?1:0);};" +
+            "window.__tv=t;t.report();setInterval(t.report,250);})();";
+
+    private boolean present = false;
+    private boolean hasVideo = false;
+    private double currentTime = 0;
+    private double duration = -1;
+    private boolean ended = false;
+    private boolean paused = true;
+    private long reportNanos = 0;
+
+    /**
+     * Parses the state suffix of a page title. Returns false when the
+     * controller marker is missing, i.e. the controller is not on the page.
+     */
+    public boolean update(String title) {
+        int index = title.indexOf(TITLE_MARKER);
+        present = index >= 0;
+        if (!present) {
+            hasVideo = false;
+            return false;
+        }
+
+        String[] parts = title.substring(index + TITLE_MARKER.length()).split(",");
+        if (parts.length < 4) {
+            hasVideo = false;
+            return true;
+        }
+
+        try {
+            double time = Double.parseDouble(parts[0]);
+            if (!hasVideo || time != currentTime) {
+                reportNanos = System.nanoTime();
+            }
+            currentTime = time;
+            duration = Double.parseDouble(parts[1]);
+            ended = "1".equals(parts[2]);
+            paused = "1".equals(parts[3]);
+            hasVideo = true;
+        } catch (NumberFormatException e) {
+            hasVideo = false;
+        }
+        return true;
+    }
+
+    public void reset() {
+        present = false;
+        hasVideo = false;
+        currentTime = 0;
+        duration = -1;
+        ended = false;
+        paused = true;
+    }
+
+    public static String stripTitle(String title) {
+        int index = title.indexOf(TITLE_MARKER);
+        return index >= 0 ? title.substring(0, index) : title;
+    }
+
+    public boolean isPresent() { return present; }
+    public boolean hasVideo() { return hasVideo; }
+    public boolean isPaused() { return paused; }
+
+    /**
+     * Last reported position in milliseconds, extrapolated by the playback
+     * rate since the report so it stays smooth between polls.
+     */
+    public long getPositionMs(float rate) {
+        if (!hasVideo) return -1;
+        double seconds = currentTime;
+        if (!paused && !ended) {
+            seconds += (System.nanoTime() - reportNanos) / 1_000_000_000.0 * rate;
+            if (duration > 0) seconds = Math.min(seconds, duration);
+        }
+        return (long) (seconds * 1000);
+    }
+
+    public long getDurationMs() {
+        return hasVideo && duration > 0 ? (long) (duration * 1000) : 0;
+    }
+}
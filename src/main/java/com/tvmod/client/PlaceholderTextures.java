@@ -0,0 +1,76 @@
+package com.tvmod.client;
+
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+import java.util.Locale;
+
+/**
+ * One GPU texture per placeholder screen, shared by every TV showing it.
+ * Textures are created on first acquire and released when the last TV lets
+ * go; {@link ScreenTextures} names and tracks them. Solid colours are tiny
+ * since the renderer stretches them anyway.
+ */
+@OnlyIn(Dist.CLIENT)
+public class PlaceholderTextures {
+
+    public enum Placeholder {
+        BLACK(16, 9),
+        PAUSED(16, 9),
+        PLAYING(ResolutionTier.P240.width, ResolutionTier.P240.height);
+
+        final int width;
+        final int height;
+
+        Placeholder(int width, int height) {
+            this.width = width;
+            this.height = height;
+        }
+
+        void draw(TVFrameBuffer frame) {
+            switch (this) {
+                case BLACK:
+                    frame.fillColor(0xFF000000);
+                    break;
+                case PAUSED:
+                    frame.fillColor(0xFF222244);
+                    break;
+                case PLAYING:
+                    frame.fillGradient();
+                    break;
+            }
+        }
+    }
+
+    private static final int COUNT = Placeholder.values().length;
+    private static final ScreenTextures.Handle[] handles = new ScreenTextures.Handle[COUNT];
+    private static final int[] refCounts = new int[COUNT];
+
+    public static ResourceLocation acquire(Placeholder placeholder) {
+        int index = placeholder.ordinal();
+        if (refCounts[index]++ == 0) {
+            TVFrameBuffer frame = new TVFrameBuffer(placeholder.width, placeholder.height);
+            placeholder.draw(frame);
+            FrameTexture texture = new FrameTexture(frame);
+            handles[index] = ScreenTextures.register(
+                    "tv_placeholder_" + placeholder.name().toLowerCase(Locale.ROOT),
+                    texture, texture::getMemoryBytes, false, "placeholder");
+            texture.upload();
+        }
+        return handles[index].getLocation();
+    }
+
+    public static void release(Placeholder placeholder) {
+        int index = placeholder.ordinal();
+        if (refCounts[index] <= 0) return;
+        if (--refCounts[index] == 0) {
+            handles[index].release();
+            handles[index] = null;
+        }
+    }
+
+    public static int getRefCount(Placeholder placeholder) {
+        return refCounts[placeholder.ordinal()];
+    }
+}
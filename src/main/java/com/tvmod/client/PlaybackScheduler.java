@@ -0,0 +1,163 @@
+package com.tvmod.client;
+
+import com.tvmod.client.gui.TVScreen;
+import com.tvmod.config.ClientConfig;
+import net.minecraft.client.Minecraft;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.BlockRayTraceResult;
+import net.minecraft.util.math.RayTraceResult;
+import net.minecraft.util.math.vector.Vector3d;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Shares a fixed playback budget between nearby playing TVs. TVs are ranked
+ * by apparent screen size, how directly the player looks at them and focus
+ * (crosshair or open TV screen). The best sessions play fully, the next ones
+ * degraded, and the rest are suspended. Each boundary has its own
+ * hysteresis: FULL TVs get a bonus when the full slots are handed out, and
+ * audible (FULL or DEGRADED) TVs when the audible slots are, so near-equal
+ * TVs don't swap back and forth across either. TVs past the suspend radius,
+ * or no longer among the candidates at all, are suspended whatever their
+ * score; this is the only place a TV is suspended.
+ */
+@OnlyIn(Dist.CLIENT)
+public class PlaybackScheduler {
+
+    // A challenger must score this much higher to take an incumbent's slot
+    private static final double STICKINESS = 1.3;
+    private static final double FOCUS_BONUS = 1000.0;
+    private static final double VISIBLE_FACTOR = 2.0;
+
+    private final List<TVVideoPlayer> ranked = new ArrayList<>();
+    private final Map<TVVideoPlayer, Double> scores = new HashMap<>();
+    private final Map<PlaybackSession, PlaybackTier> sessionTiers = new HashMap<>();
+    // Candidates of the last update, to catch TVs that have left them since
+    private Set<TVVideoPlayer> scheduled = new HashSet<>();
+    private Set<TVVideoPlayer> previous = new HashSet<>();
+
+    /**
+     * Re-ranks the given TVs and applies the resulting tiers. TVs in range
+     * that are not playing are left at FULL so they start normally.
+     */
+    public void update(Minecraft mc, PlayerEntity player, List<TVVideoPlayer> candidates, double suspendRadius) {
+        int maxFull = ClientConfig.MAX_FULL_QUALITY_SESSIONS.get();
+        int maxAudible = Math.max(maxFull, ClientConfig.MAX_AUDIBLE_SESSIONS.get());
+        BlockPos focused = getFocusedPos(mc);
+        Vector3d eye = player.getEyePosition(1.0f);
+        Vector3d look = player.getViewVector(1.0f);
+
+        Set<TVVideoPlayer> swap = previous;
+        previous = scheduled;
+        scheduled = swap;
+        scheduled.clear();
+        scheduled.addAll(candidates);
+        for (TVVideoPlayer gone : previous) {
+            if (!scheduled.contains(gone)) gone.setPlaybackTier(PlaybackTier.SUSPENDED);
+        }
+        previous.clear();
+
+        ranked.clear();
+        scores.clear();
+        double suspendRadiusSqr = suspendRadius * suspendRadius;
+        for (TVVideoPlayer candidate : candidates) {
+            BlockPos pos = candidate.getPos();
+            if (player.distanceToSqr(pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5) > suspendRadiusSqr) {
+                candidate.setPlaybackTier(PlaybackTier.SUSPENDED);
+                continue;
+            }
+            if (!candidate.isPlaying() || candidate.getSession() == null) {
+                candidate.setPlaybackTier(PlaybackTier.FULL);
+                continue;
+            }
+            scores.put(candidate, score(candidate, eye, look, focused));
+            ranked.add(candidate);
+        }
+
+        sessionTiers.clear();
+
+        // Full slots first, against the FULL incumbents
+        ranked.sort((a, b) -> Double.compare(fullScore(b), fullScore(a)));
+        int full = 0;
+        for (TVVideoPlayer candidate : ranked) {
+            if (full == maxFull) break;
+            if (sessionTiers.putIfAbsent(candidate.getSession(), PlaybackTier.FULL) == null) full++;
+        }
+
+        // Then the remaining audible slots, against every audible incumbent
+        ranked.sort((a, b) -> Double.compare(audibleScore(b), audibleScore(a)));
+        int audible = full;
+        for (TVVideoPlayer candidate : ranked) {
+            PlaybackSession session = candidate.getSession();
+            if (sessionTiers.containsKey(session)) continue;
+            sessionTiers.put(session, audible < maxAudible ? PlaybackTier.DEGRADED : PlaybackTier.SUSPENDED);
+            if (audible < maxAudible) audible++;
+        }
+
+        for (TVVideoPlayer candidate : ranked) {
+            candidate.setPlaybackTier(sessionTiers.get(candidate.getSession()));
+        }
+    }
+
+    /**
+     * Stops tracking a TV that is being released.
+     */
+    public void forget(TVVideoPlayer player) {
+        scheduled.remove(player);
+    }
+
+    public void clear() {
+        scheduled.clear();
+    }
+
+    private double fullScore(TVVideoPlayer candidate) {
+        double score = scores.get(candidate);
+        return candidate.getPlaybackTier() == PlaybackTier.FULL ? score * STICKINESS : score;
+    }
+
+    private double audibleScore(TVVideoPlayer candidate) {
+        double score = scores.get(candidate);
+        return candidate.getPlaybackTier() != PlaybackTier.SUSPENDED ? score * STICKINESS : score;
+    }
+
+    private double score(TVVideoPlayer candidate, Vector3d eye, Vector3d look, @Nullable BlockPos focused) {
+        BlockPos pos = candidate.getPos();
+        if (pos.equals(focused)) return FOCUS_BONUS;
+
+        double dx = pos.getX() + 0.5 - eye.x;
+        double dy = pos.getY() + 0.5 - eye.y;
+        double dz = pos.getZ() + 0.5 - eye.z;
+        double distance = Math.sqrt(dx * dx + dy * dy + dz * dz);
+
+        double score = ResolutionTier.demand(candidate.getScreenSize(), distance);
+        if (distance > 0) {
+            double alignment = (dx * look.x + dy * look.y + dz * look.z) / distance;
+            score *= 1.0 + Math.max(0.0, alignment);
+        }
+        if (candidate.getVisibility() == VisibilityState.VISIBLE) {
+            score *= VISIBLE_FACTOR;
+        }
+        return score;
+    }
+
+    @Nullable
+    private static BlockPos getFocusedPos(Minecraft mc) {
+        if (mc.screen instanceof TVScreen) {
+            return ((TVScreen) mc.screen).getTileEntity().getBlockPos();
+        }
+        RayTraceResult hit = mc.hitResult;
+        if (hit != null && hit.getType() == RayTraceResult.Type.BLOCK) {
+            return ((BlockRayTraceResult) hit).getBlockPos();
+        }
+        return null;
+    }
+}
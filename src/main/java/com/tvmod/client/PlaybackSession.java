@@ -0,0 +1,247 @@
+package com.tvmod.client;
+
+import com.tvmod.TVMod;
+import com.tvmod.client.backend.MCEFBackend;
+import com.tvmod.client.backend.VideoBackend;
+import com.tvmod.client.backend.VideoBackendProvider;
+import com.tvmod.client.backend.VideoBackends;
+import com.tvmod.util.URLParser;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+import javax.annotation.Nullable;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * One playback backend (see {@link VideoBackends}) shared by every TV
+ * showing the same URL from the same source. TVs subscribe to a session; the
+ * session is released by VideoPlayerManager when the last TV leaves. Audio
+ * volume follows the loudest subscriber, as computed by VideoPlayerManager's
+ * spatial audio pass, and glides toward it in small steps.
+ */
+@OnlyIn(Dist.CLIENT)
+public class PlaybackSession {
+
+    private final String key;
+    private final BlockPos origin;
+    private final String url;
+    private final String quality;
+    private final int sourceIndex;
+    private final VideoBackend backend;
+
+    private final Set<TVVideoPlayer> subscribers = new LinkedHashSet<>();
+    private boolean playing = false;
+    private float playbackSpeed = 1.0f;
+    private ResolutionTier resolution = null;
+    private VisibilityState visibility = VisibilityState.VISIBLE;
+
+    // Backend volume moves at most this far per tick, so changes never step audibly
+    private static final float GAIN_SLEW_PER_TICK = 0.05f;
+    // Smaller changes are not sent; roughly half a decibel, with a floor near silence
+    private static final float GAIN_RELATIVE_THRESHOLD = 0.06f;
+    private static final float GAIN_ABSOLUTE_THRESHOLD = 0.005f;
+
+    private float gainTarget = 0.0f;
+    private float gainCurrent = 0.0f;
+    private float gainSent = Float.NaN;
+
+    // Deferred by VideoPlayerManager every tick; one instance, no per-tick allocation
+    final Runnable tickJob = () -> VideoPlayerManager.tickSession(this);
+
+    PlaybackSession(String key, BlockPos origin, String url, String quality, int sourceIndex,
+                    VideoBackendProvider provider) {
+        this.key = key;
+        this.origin = origin;
+        this.url = url;
+        this.quality = quality != null ? quality : "medium";
+        this.sourceIndex = sourceIndex;
+        this.backend = provider.create(origin);
+    }
+
+    public static String keyOf(String url, int sourceIndex) {
+        String normalized = sourceIndex == 5 ? "" : URLParser.normalizeUrl(url);
+        if (normalized.isEmpty()) normalized = url.trim();
+        return sourceIndex + "|" + normalized;
+    }
+
+    public static String browserKeyOf(BlockPos pos) {
+        return "browser|" + pos.asLong();
+    }
+
+    void start() {
+        if (url.isEmpty()) return;
+        playing = true;
+        backend.play(url, quality, sourceIndex);
+        TVMod.LOGGER.info("Session {} playing on {} backend at {}", key, backend.getName(), origin);
+    }
+
+    void subscribe(TVVideoPlayer player) {
+        subscribers.add(player);
+        updateResolution();
+        updateVisibility();
+    }
+
+    /**
+     * Removes a TV from the session. Returns true when no subscribers remain.
+     */
+    boolean unsubscribe(TVVideoPlayer player) {
+        subscribers.remove(player);
+        if (subscribers.isEmpty()) return true;
+        updateResolution();
+        updateVisibility();
+        return false;
+    }
+
+    /**
+     * Renders at the highest tier any subscribed TV currently needs.
+     */
+    public void updateResolution() {
+        ResolutionTier wanted = ResolutionTier.P144;
+        for (TVVideoPlayer subscriber : subscribers) {
+            wanted = ResolutionTier.max(wanted, subscriber.getResolution());
+        }
+
+        if (wanted == resolution) return;
+        resolution = wanted;
+        backend.setResolution(wanted.width, wanted.height);
+    }
+
+    /**
+     * Applies the most perceivable state of any subscribed TV to the backend.
+     */
+    public void updateVisibility() {
+        VisibilityState wanted = VisibilityState.DORMANT;
+        for (TVVideoPlayer subscriber : subscribers) {
+            wanted = VisibilityState.max(wanted, subscriber.getEffectiveVisibility());
+        }
+
+        if (wanted == visibility) return;
+        visibility = wanted;
+        backend.setVisibility(wanted);
+    }
+
+    /**
+     * Plays while at least one subscribed TV is playing and not suspended by
+     * the playback budget, and pauses otherwise.
+     */
+    public void updatePlayState() {
+        boolean anyPlaying = false;
+        for (TVVideoPlayer subscriber : subscribers) {
+            if (subscriber.isActive()) {
+                anyPlaying = true;
+                break;
+            }
+        }
+
+        if (anyPlaying == playing) return;
+        playing = anyPlaying;
+
+        if (playing) {
+            backend.resume();
+        } else {
+            backend.pause();
+        }
+    }
+
+    public void setPlaybackSpeed(float speed) {
+        this.playbackSpeed = speed;
+        backend.setPlaybackSpeed(speed);
+    }
+
+    public void seekTo(long position) {
+        backend.seekTo(position);
+    }
+
+    public void tick() {
+        backend.tick();
+    }
+
+    void beginGainPass() {
+        gainTarget = 0.0f;
+    }
+
+    void offerGain(float gain) {
+        if (gain > gainTarget) gainTarget = gain;
+    }
+
+    /**
+     * Glides toward the loudest gain offered this pass and sends it to the
+     * backend once it moved perceptibly from what was last sent.
+     */
+    void applyGain() {
+        if (!playing) {
+            // Resume silent and fade in from there
+            gainCurrent = 0.0f;
+            if (gainSent != 0.0f) {
+                gainSent = 0.0f;
+                backend.setVolume(0.0f);
+            }
+            return;
+        }
+
+        float delta = gainTarget - gainCurrent;
+        gainCurrent = Math.abs(delta) <= GAIN_SLEW_PER_TICK
+                ? gainTarget
+                : gainCurrent + Math.copySign(GAIN_SLEW_PER_TICK, delta);
+
+        // Always send the exact silence at the end of a fade out
+        boolean silenced = gainCurrent == 0.0f && gainSent != 0.0f;
+        if (Float.isNaN(gainSent) || silenced
+                || Math.abs(gainCurrent - gainSent) > Math.max(GAIN_ABSOLUTE_THRESHOLD, gainSent * GAIN_RELATIVE_THRESHOLD)) {
+            gainSent = gainCurrent;
+            backend.setVolume(gainCurrent);
+        }
+    }
+
+    /**
+     * Backend-reported position in milliseconds, or -1 if unknown.
+     */
+    public long getPosition() {
+        return backend.getPosition();
+    }
+
+    public long getDuration() {
+        return backend.getDuration();
+    }
+
+    public void release() {
+        TVMod.LOGGER.debug("Releasing playback session {}", key);
+        backend.release();
+        subscribers.clear();
+        playing = false;
+    }
+
+    public String getKey() { return key; }
+    public String getUrl() { return url; }
+    public boolean isPlaying() { return playing; }
+    public float getPlaybackSpeed() { return playbackSpeed; }
+    public VisibilityState getVisibility() { return visibility; }
+    public int getSubscriberCount() { return subscribers.size(); }
+    public VideoBackend getBackend() { return backend; }
+    public boolean providesFrames() { return backend.providesFrames(); }
+
+    /**
+     * GL texture the backend renders into, or -1 if it has none.
+     */
+    public int getTextureId() { return backend.getTextureId(); }
+
+    @Nullable
+    public FrameSource getFrameSource() { return backend.getFrameSource(); }
+
+    @Nullable
+    public MCEFVideoPlayer getMCEFPlayer() {
+        return backend instanceof MCEFBackend ? ((MCEFBackend) backend).getPlayer() : null;
+    }
+
+    @Nullable
+    public ResourceLocation getMCEFTextureLocation() {
+        return backend instanceof MCEFBackend ? backend.getTextureLocation() : null;
+    }
+
+    public int getMCEFTextureId() {
+        return backend instanceof MCEFBackend ? backend.getTextureId() : -1;
+    }
+}
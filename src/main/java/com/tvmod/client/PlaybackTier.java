@@ -0,0 +1,16 @@
+package com.tvmod.client;
+
+/**
+ * Share of the playback budget a TV was given by the {@link PlaybackScheduler}.
+ */
+public enum PlaybackTier {
+    /** Decoded and rendered at the resolution its distance calls for. */
+    FULL,
+    /** Still playing and audible, but capped to a low resolution. */
+    DEGRADED,
+    /** Backend paused; the screen holds its last frame as a poster. */
+    SUSPENDED;
+
+    /** Resolution cap for degraded TVs. */
+    public static final ResolutionTier DEGRADED_RESOLUTION = ResolutionTier.P240;
+}
@@ -0,0 +1,55 @@
+package com.tvmod.client;
+
+/**
+ * Render resolutions for TV screens. The tier is picked from how large the
+ * screen appears to the viewer (screen size in blocks over distance), with a
+ * hysteresis band around each threshold so walking around does not make the
+ * browser resize back and forth.
+ */
+public enum ResolutionTier {
+    P144(256, 144, 0.0),
+    P240(426, 240, 0.06),
+    P360(640, 360, 0.15),
+    P480(854, 480, 0.35),
+    P720(1280, 720, 1.0);
+
+    public static final ResolutionTier DEFAULT = P480;
+
+    private static final double HYSTERESIS = 0.2;
+    private static final ResolutionTier[] TIERS = values();
+
+    public final int width;
+    public final int height;
+    private final double minDemand;
+
+    ResolutionTier(int width, int height, double minDemand) {
+        this.width = width;
+        this.height = height;
+        this.minDemand = minDemand;
+    }
+
+    public static double demand(int screenSize, double distance) {
+        return screenSize / Math.max(1.0, distance);
+    }
+
+    public static ResolutionTier select(ResolutionTier current, int screenSize, double distance) {
+        double demand = demand(screenSize, distance);
+        int index = current.ordinal();
+
+        while (index + 1 < TIERS.length && demand >= TIERS[index + 1].minDemand * (1.0 + HYSTERESIS)) {
+            index++;
+        }
+        while (index > 0 && demand < TIERS[index].minDemand * (1.0 - HYSTERESIS)) {
+            index--;
+        }
+        return TIERS[index];
+    }
+
+    public static ResolutionTier max(ResolutionTier a, ResolutionTier b) {
+        return a.ordinal() >= b.ordinal() ? a : b;
+    }
+
+    public long getBytes() {
+        return (long) width * height * 4;
+    }
+}
@@ -0,0 +1,220 @@
+package com.tvmod.client;
+
+import com.tvmod.TVMod;
+import com.tvmod.config.ClientConfig;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.texture.Texture;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+/**
+ * Owns every texture the mod registers with the TextureManager. Each texture
+ * gets a unique location and a ref-counted {@link Handle}; it is freed when
+ * the last reference is released. Handles that become unreachable while
+ * still referenced are reported as leaks by {@link #audit()} and freed.
+ * Evictable textures are also dropped, least recently rendered first, while
+ * the total goes over the configured budget. Render thread only.
+ */
+@OnlyIn(Dist.CLIENT)
+public class ScreenTextures {
+
+    // Screens drawn this recently are never evicted, so eviction can't thrash
+    private static final long EVICTION_GRACE_FRAMES = 60;
+
+    private static final Map<Long, Entry> live = new HashMap<>();
+    private static final Set<HandleRef> handles = new HashSet<>();
+    private static final ReferenceQueue<Handle> collected = new ReferenceQueue<>();
+    private static final List<Entry> candidates = new ArrayList<>();
+    private static long nextId = 0;
+    private static long frame = 0;
+    private static long leaked = 0;
+    private static long evicted = 0;
+    private static boolean warnedOverBudget = false;
+
+    /**
+     * Reference held by one owner of a texture. Releasing it more than once
+     * does nothing.
+     */
+    public static final class Handle {
+        private final Entry entry;
+        private HandleRef ref;
+
+        private Handle(Entry entry) {
+            this.entry = entry;
+        }
+
+        public ResourceLocation getLocation() { return entry.location; }
+
+        /** False once released, or once the texture was evicted. */
+        public boolean isValid() { return ref != null && !entry.closed; }
+
+        public void markRendered() { entry.lastRendered = frame; }
+
+        public void release() {
+            if (ref == null) return;
+            handles.remove(ref);
+            ref.clear();
+            ref = null;
+            unref(entry);
+        }
+    }
+
+    /**
+     * One registered texture and everything needed to free it.
+     */
+    private static final class Entry {
+        final long id;
+        final ResourceLocation location;
+        final Texture texture;
+        final LongSupplier bytes;
+        final boolean evictable;
+        final String description;
+        int refCount = 0;
+        long lastRendered = frame;
+        boolean closed = false;
+
+        Entry(long id, ResourceLocation location, Texture texture, LongSupplier bytes, boolean evictable,
+              String description) {
+            this.id = id;
+            this.location = location;
+            this.texture = texture;
+            this.bytes = bytes;
+            this.evictable = evictable;
+            this.description = description;
+        }
+    }
+
+    /**
+     * Enqueued when a handle is collected without having been released.
+     */
+    private static final class HandleRef extends PhantomReference<Handle> {
+        final Entry entry;
+
+        HandleRef(Handle handle, Entry entry) {
+            super(handle, collected);
+            this.entry = entry;
+        }
+    }
+
+    /**
+     * Registers a texture under a fresh {@code tvmod:<prefix>_<id>} location,
+     * so no two textures ever share a name. Evictable textures may be freed
+     * under budget pressure; their owners must check {@link Handle#isValid}.
+     */
+    public static Handle register(String prefix, Texture texture, LongSupplier bytes, boolean evictable,
+                                  String description) {
+        long id = nextId++;
+        ResourceLocation location = new ResourceLocation(TVMod.MOD_ID, prefix + "_" + id);
+        Minecraft.getInstance().getTextureManager().register(location, texture);
+
+        Entry entry = new Entry(id, location, texture, bytes, evictable, description);
+        live.put(id, entry);
+        return newHandle(entry);
+    }
+
+    /**
+     * Adds an owner to the texture behind {@code handle}.
+     */
+    public static Handle share(Handle handle) {
+        if (!handle.isValid()) throw new IllegalStateException("Texture " + handle.getLocation() + " was already freed");
+        return newHandle(handle.entry);
+    }
+
+    private static Handle newHandle(Entry entry) {
+        Handle handle = new Handle(entry);
+        handle.ref = new HandleRef(handle, entry);
+        handles.add(handle.ref);
+        entry.refCount++;
+        return handle;
+    }
+
+    private static void unref(Entry entry) {
+        if (--entry.refCount == 0) {
+            free(entry);
+        }
+    }
+
+    private static void free(Entry entry) {
+        if (entry.closed) return;
+        entry.closed = true;
+        live.remove(entry.id);
+        // TextureManager.release deletes the GL id, which a borrowed texture must drop first
+        if (entry.texture instanceof ExternalTexture) entry.texture.close();
+        Minecraft.getInstance().getTextureManager().release(entry.location);
+        entry.texture.close();
+    }
+
+    /**
+     * Advances the render frame used for least-recently-rendered eviction.
+     */
+    public static void beginFrame() {
+        frame++;
+    }
+
+    /**
+     * Frees textures whose handles were dropped without a release, then
+     * evicts idle screens while over the texture budget.
+     */
+    public static void audit() {
+        Object reference;
+        while ((reference = collected.poll()) != null) {
+            HandleRef ref = (HandleRef) reference;
+            if (!handles.remove(ref)) continue;
+            leaked++;
+            TVMod.LOGGER.warn("Leaked handle to TV texture {} ({})", ref.entry.location, ref.entry.description);
+            unref(ref.entry);
+        }
+
+        long budget = ClientConfig.TEXTURE_BUDGET_MB.get() * 1024L * 1024L;
+        long total = getTotalBytes();
+        if (total <= budget) {
+            warnedOverBudget = false;
+            return;
+        }
+
+        candidates.clear();
+        for (Entry entry : live.values()) {
+            if (entry.evictable && frame - entry.lastRendered > EVICTION_GRACE_FRAMES) {
+                candidates.add(entry);
+            }
+        }
+        candidates.sort((x, y) -> Long.compare(x.lastRendered, y.lastRendered));
+        for (Entry entry : candidates) {
+            if (total <= budget) break;
+            total -= entry.bytes.getAsLong();
+            evicted++;
+            TVMod.LOGGER.debug("Evicted TV texture {} ({}) over budget", entry.location, entry.description);
+            free(entry);
+        }
+        candidates.clear();
+
+        if (total > budget && !warnedOverBudget) {
+            warnedOverBudget = true;
+            TVMod.LOGGER.warn("TV textures use {} MB, over the {} MB budget, but all are on screen",
+                    total / (1024 * 1024), budget / (1024 * 1024));
+        }
+    }
+
+    public static long getTotalBytes() {
+        long total = 0;
+        for (Entry entry : live.values()) {
+            total += entry.bytes.getAsLong();
+        }
+        return total;
+    }
+
+    public static int getLiveCount() { return live.size(); }
+    public static long getLeakedCount() { return leaked; }
+    public static long getEvictedCount() { return evicted; }
+}
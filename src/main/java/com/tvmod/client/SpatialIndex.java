@@ -0,0 +1,191 @@
+package com.tvmod.client;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.SectionPos;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Block-positioned values bucketed by 16x16x16 chunk section, so radius
+ * queries only look at sections near the query point. Distances
+ * are measured to block centres. The version changes on every insert or
+ * removal so callers can cache query results.
+ */
+public class SpatialIndex<T> {
+
+    private static final int SECTION_BITS = 4;
+    private static final int SECTION_SIZE = 1 << SECTION_BITS;
+
+    private static final class Entry<T> {
+        final BlockPos pos;
+        final T value;
+
+        Entry(BlockPos pos, T value) {
+            this.pos = pos;
+            this.value = value;
+        }
+
+        double distanceSqr(double x, double y, double z) {
+            double dx = pos.getX() + 0.5 - x;
+            double dy = pos.getY() + 0.5 - y;
+            double dz = pos.getZ() + 0.5 - z;
+            return dx * dx + dy * dy + dz * dz;
+        }
+    }
+
+    private final Map<BlockPos, T> values = new HashMap<>();
+    private final Map<Long, List<Entry<T>>> sections = new HashMap<>();
+    private int version = 0;
+
+    public static long sectionKey(BlockPos pos) {
+        return SectionPos.asLong(pos.getX() >> SECTION_BITS, pos.getY() >> SECTION_BITS, pos.getZ() >> SECTION_BITS);
+    }
+
+    public static long sectionKey(double x, double y, double z) {
+        return SectionPos.asLong(floor(x) >> SECTION_BITS, floor(y) >> SECTION_BITS, floor(z) >> SECTION_BITS);
+    }
+
+    private static int floor(double value) {
+        return (int) Math.floor(value);
+    }
+
+    @Nullable
+    public T get(BlockPos pos) {
+        return values.get(pos);
+    }
+
+    public boolean contains(BlockPos pos) {
+        return values.containsKey(pos);
+    }
+
+    /**
+     * Adds a value, replacing and returning any value already at {@code pos}.
+     */
+    @Nullable
+    public T put(BlockPos pos, T value) {
+        pos = pos.immutable();
+        T previous = remove(pos);
+        values.put(pos, value);
+        sections.computeIfAbsent(sectionKey(pos), key -> new ArrayList<>(2)).add(new Entry<>(pos, value));
+        version++;
+        return previous;
+    }
+
+    @Nullable
+    public T remove(BlockPos pos) {
+        T removed = values.remove(pos);
+        if (removed == null) return null;
+
+        long key = sectionKey(pos);
+        List<Entry<T>> bucket = sections.get(key);
+        if (bucket != null) {
+            for (int i = 0; i < bucket.size(); i++) {
+                if (bucket.get(i).pos.equals(pos)) {
+                    bucket.remove(i);
+                    break;
+                }
+            }
+            if (bucket.isEmpty()) sections.remove(key);
+        }
+        version++;
+        return removed;
+    }
+
+    public void clear() {
+        values.clear();
+        sections.clear();
+        version++;
+    }
+
+    public int size() { return values.size(); }
+    public boolean isEmpty() { return values.isEmpty(); }
+    public int getSectionCount() { return sections.size(); }
+    public int getVersion() { return version; }
+
+    public Collection<T> values() {
+        return Collections.unmodifiableCollection(values.values());
+    }
+
+    /**
+     * Adds every value within {@code radius} of the point to {@code out}.
+     */
+    public void collectWithin(double x, double y, double z, double radius, List<T> out) {
+        double radiusSqr = radius * radius;
+        int minX = floor(x - radius) >> SECTION_BITS, maxX = floor(x + radius) >> SECTION_BITS;
+        int minY = floor(y - radius) >> SECTION_BITS, maxY = floor(y + radius) >> SECTION_BITS;
+        int minZ = floor(z - radius) >> SECTION_BITS, maxZ = floor(z + radius) >> SECTION_BITS;
+        long span = (long) (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
+
+        if (span > sections.size()) {
+            // Fewer occupied sections than sections in range: walk the occupied ones
+            for (List<Entry<T>> bucket : sections.values()) {
+                collectBucket(bucket, x, y, z, radiusSqr, true, out);
+            }
+            return;
+        }
+
+        for (int sx = minX; sx <= maxX; sx++) {
+            for (int sy = minY; sy <= maxY; sy++) {
+                for (int sz = minZ; sz <= maxZ; sz++) {
+                    List<Entry<T>> bucket = sections.get(SectionPos.asLong(sx, sy, sz));
+                    if (bucket != null) collectBucket(bucket, x, y, z, radiusSqr, true, out);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds every value in the given chunk column to {@code out}.
+     */
+    public void collectInChunk(int chunkX, int chunkZ, List<T> out) {
+        for (Map.Entry<Long, List<Entry<T>>> section : sections.entrySet()) {
+            long key = section.getKey();
+            if (SectionPos.x(key) != chunkX || SectionPos.z(key) != chunkZ) continue;
+            for (Entry<T> entry : section.getValue()) {
+                out.add(entry.value);
+            }
+        }
+    }
+
+    /**
+     * Adds every value further than {@code radius} from the point to
+     * {@code out}. Sections entirely inside the radius are skipped without
+     * looking at their entries.
+     */
+    public void collectOutside(double x, double y, double z, double radius, List<T> out) {
+        double radiusSqr = radius * radius;
+        for (Map.Entry<Long, List<Entry<T>>> section : sections.entrySet()) {
+            long key = section.getKey();
+            double minX = SectionPos.x(key) << SECTION_BITS;
+            double minY = SectionPos.y(key) << SECTION_BITS;
+            double minZ = SectionPos.z(key) << SECTION_BITS;
+
+            double far = square(Math.max(Math.abs(x - minX), Math.abs(x - minX - SECTION_SIZE)))
+                    + square(Math.max(Math.abs(y - minY), Math.abs(y - minY - SECTION_SIZE)))
+                    + square(Math.max(Math.abs(z - minZ), Math.abs(z - minZ - SECTION_SIZE)));
+            if (far <= radiusSqr) continue;
+
+            collectBucket(section.getValue(), x, y, z, radiusSqr, false, out);
+        }
+    }
+
+    private static double square(double value) {
+        return value * value;
+    }
+
+    private static <T> void collectBucket(List<Entry<T>> bucket, double x, double y, double z,
+                                          double radiusSqr, boolean inside, List<T> out) {
+        for (int i = 0; i < bucket.size(); i++) {
+            Entry<T> entry = bucket.get(i);
+            if ((entry.distanceSqr(x, y, z) <= radiusSqr) == inside) {
+                out.add(entry.value);
+            }
+        }
+    }
+}
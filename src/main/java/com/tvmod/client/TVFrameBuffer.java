@@ -0,0 +1,119 @@
+package com.tvmod.client;
+
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import org.lwjgl.system.MemoryUtil;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+/**
+ * Off-heap RGBA frame for a TV screen. Pixels are ABGR ints in the same
+ * layout NativeImage uses. Fills write one template row and copy it with
+ * memcpy, and remember what was drawn so repeating a fill is free and leaves
+ * the frame clean (no texture upload needed).
+ */
+@OnlyIn(Dist.CLIENT)
+public class TVFrameBuffer implements AutoCloseable {
+
+    private static final int CONTENT_NONE = 0;
+    private static final int CONTENT_COLOR = 1;
+    private static final int CONTENT_GRADIENT = 2;
+
+    private final int width;
+    private final int height;
+    private final int rowBytes;
+    private ByteBuffer buffer;
+    private final IntBuffer pixels;
+    private final long address;
+
+    private int content = CONTENT_NONE;
+    private int contentColor = 0;
+    private boolean dirty = false;
+
+    public TVFrameBuffer(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.rowBytes = width * 4;
+        this.buffer = FrameBufferPool.acquire(rowBytes * height);
+        this.pixels = buffer.asIntBuffer();
+        this.address = MemoryUtil.memAddress(buffer);
+    }
+
+    public void fillColor(int color) {
+        if (content == CONTENT_COLOR && contentColor == color) return;
+
+        for (int x = 0; x < width; x++) {
+            pixels.put(x, color);
+        }
+        copyRowDown(0, 1, height);
+        setContent(CONTENT_COLOR, color);
+    }
+
+    /**
+     * Blue rises top to bottom, green left to right. Only the first row of
+     * each blue step is written; the rows below it are copies.
+     */
+    public void fillGradient() {
+        if (content == CONTENT_GRADIENT) return;
+
+        int templateRow = -1;
+        int templateBlue = -1;
+        for (int y = 0; y < height; y++) {
+            int blue = 100 + (y * 100 / height);
+            if (blue == templateBlue) continue;
+
+            if (templateRow >= 0) copyRowDown(templateRow, templateRow + 1, y);
+            int base = 0xFF000000 | (blue << 16) | 30;
+            int offset = y * width;
+            for (int x = 0; x < width; x++) {
+                pixels.put(offset + x, base | ((50 + (x * 50 / width)) << 8));
+            }
+            templateRow = y;
+            templateBlue = blue;
+        }
+        if (templateRow >= 0) copyRowDown(templateRow, templateRow + 1, height);
+        setContent(CONTENT_GRADIENT, 0);
+    }
+
+    private void setContent(int content, int color) {
+        this.content = content;
+        this.contentColor = color;
+        this.dirty = true;
+    }
+
+    /**
+     * Copies row {@code source} over rows {@code from} (inclusive) to
+     * {@code to} (exclusive), doubling the copied block each pass.
+     */
+    private void copyRowDown(int source, int from, int to) {
+        if (from >= to) return;
+        long src = address + (long) source * rowBytes;
+        MemoryUtil.memCopy(src, address + (long) from * rowBytes, rowBytes);
+
+        int filled = 1;
+        int row = from + 1;
+        while (row < to) {
+            int count = Math.min(filled, to - row);
+            MemoryUtil.memCopy(address + (long) from * rowBytes, address + (long) row * rowBytes,
+                    (long) count * rowBytes);
+            row += count;
+            filled += count;
+        }
+    }
+
+    public boolean isDirty() { return dirty; }
+    public void markClean() { dirty = false; }
+
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public long getAddress() { return address; }
+
+    @Override
+    public void close() {
+        if (buffer != null) {
+            FrameBufferPool.release(buffer);
+            buffer = null;
+        }
+    }
+}
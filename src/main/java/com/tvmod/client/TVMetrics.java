@@ -0,0 +1,183 @@
+package com.tvmod.client;
+
+import com.tvmod.TVMod;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Client-side counters, histograms and gauges describing what the mod costs.
+ * Shown in the F3 overlay (see {@link ClientEvents}) and dumped to CSV for
+ * bug reports. Histograms are recorded on the client/render thread only.
+ */
+@OnlyIn(Dist.CLIENT)
+public class TVMetrics {
+
+    public static class Counter {
+        private final AtomicLong total = new AtomicLong();
+
+        public void increment() { total.incrementAndGet(); }
+        public void add(long amount) { total.addAndGet(amount); }
+        public long get() { return total.get(); }
+    }
+
+    /**
+     * Power-of-two buckets; bucket {@code i} holds values below {@code 2^i}.
+     * Percentiles are reported as the upper bound of their bucket.
+     */
+    public static class Histogram {
+        private static final int BUCKETS = 40;
+
+        private final long[] buckets = new long[BUCKETS];
+        private long count = 0;
+        private long sum = 0;
+        private long max = 0;
+
+        public void record(long value) {
+            if (value < 0) value = 0;
+            int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(value));
+            buckets[bucket]++;
+            count++;
+            sum += value;
+            max = Math.max(max, value);
+        }
+
+        public long percentile(double fraction) {
+            if (count == 0) return 0;
+            long rank = (long) Math.ceil(count * fraction);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets[i];
+                if (seen >= rank) return Math.min(max, (1L << i) - 1);
+            }
+            return max;
+        }
+
+        public long getCount() { return count; }
+        public long getSum() { return sum; }
+        public long getMax() { return max; }
+        public long getMean() { return count == 0 ? 0 : sum / count; }
+    }
+
+    private static final Map<String, Counter> counters = new LinkedHashMap<>();
+    private static final Map<String, Histogram> histograms = new LinkedHashMap<>();
+    private static final Map<String, LongSupplier> gauges = new LinkedHashMap<>();
+
+    public static final Histogram PLAYER_TICK_MICROS = histogram("player_tick_us");
+    public static final Histogram MANAGER_TICK_MICROS = histogram("manager_tick_us");
+    public static final Counter JS_CALLS = counter("js_calls");
+    public static final Counter TEXTURE_UPLOADS = counter("texture_uploads");
+    public static final Counter TEXTURE_UPLOAD_BYTES = counter("texture_upload_bytes");
+    public static final Counter BROWSER_CREATES = counter("browser_creates");
+    public static final Counter BROWSER_RELEASES = counter("browser_releases");
+    public static final Counter BROWSER_CLOSES = counter("browser_closes");
+    public static final Counter FRAMES_PRODUCED = counter("frames_produced");
+    public static final Counter FRAMES_DROPPED = counter("frames_dropped");
+    public static final Counter FRAME_BUSY_REQUESTS = counter("frame_busy_requests");
+
+    static {
+        gauge("players", VideoPlayerManager::getPlayerCount);
+        gauge("playing", VideoPlayerManager::getPlayingCount);
+        gauge("suspended", VideoPlayerManager::getSuspendedCount);
+        gauge("sessions", VideoPlayerManager::getSessionCount);
+        gauge("deferred_jobs", () -> VideoPlayerManager.getTickScheduler().getDeferredCount());
+        gauge("idle_browsers", BrowserPool::getIdleCount);
+        gauge("texture_memory_bytes", ScreenTextures::getTotalBytes);
+        gauge("textures", ScreenTextures::getLiveCount);
+        gauge("textures_leaked", ScreenTextures::getLeakedCount);
+        gauge("textures_evicted", ScreenTextures::getEvictedCount);
+        gauge("buffer_pool_bytes", FrameBufferPool::getPooledBytes);
+        gauge("buffer_pool_hits", FrameBufferPool::getHits);
+        gauge("buffer_pool_misses", FrameBufferPool::getMisses);
+    }
+
+    public static synchronized Counter counter(String name) {
+        return counters.computeIfAbsent(name, key -> new Counter());
+    }
+
+    public static synchronized Histogram histogram(String name) {
+        return histograms.computeIfAbsent(name, key -> new Histogram());
+    }
+
+    public static synchronized void gauge(String name, LongSupplier value) {
+        gauges.put(name, value);
+    }
+
+    /**
+     * Lines for the F3 overlay.
+     */
+    public static List<String> getOverlayLines() {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format(Locale.ROOT, "TVMod: %d TVs, %d playing, %d suspended, %d sessions",
+                VideoPlayerManager.getPlayerCount(), VideoPlayerManager.getPlayingCount(),
+                VideoPlayerManager.getSuspendedCount(), VideoPlayerManager.getSessionCount()));
+        lines.add(String.format(Locale.ROOT, "TV tick: avg %dus p95 %dus max %dus, %d deferred",
+                PLAYER_TICK_MICROS.getMean(), PLAYER_TICK_MICROS.percentile(0.95), PLAYER_TICK_MICROS.getMax(),
+                VideoPlayerManager.getTickScheduler().getDeferredCount()));
+        lines.add(String.format(Locale.ROOT, "Uploads: %d (%s), JS calls: %d, browsers +%d/-%d, %d released",
+                TEXTURE_UPLOADS.get(), formatBytes(TEXTURE_UPLOAD_BYTES.get()), JS_CALLS.get(),
+                BROWSER_CREATES.get(), BROWSER_CLOSES.get(), BROWSER_RELEASES.get()));
+        lines.add(String.format(Locale.ROOT, "Frames: %d produced, %d dropped, %d busy",
+                FRAMES_PRODUCED.get(), FRAMES_DROPPED.get(), FRAME_BUSY_REQUESTS.get()));
+        lines.add(String.format(Locale.ROOT, "TV textures: %d, %s, %d evicted, %d leaked",
+                ScreenTextures.getLiveCount(), formatBytes(ScreenTextures.getTotalBytes()),
+                ScreenTextures.getEvictedCount(), ScreenTextures.getLeakedCount()));
+        lines.add(String.format(Locale.ROOT, "Buffer pool: %s, %d hits, %d misses",
+                formatBytes(FrameBufferPool.getPooledBytes()), FrameBufferPool.getHits(), FrameBufferPool.getMisses()));
+        return lines;
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < 1024 * 1024) return String.format(Locale.ROOT, "%.1f KB", bytes / 1024.0);
+        return String.format(Locale.ROOT, "%.1f MB", bytes / (1024.0 * 1024.0));
+    }
+
+    /**
+     * Writes every metric to a timestamped CSV file in {@code directory}.
+     * Returns the file, or null if it could not be written.
+     */
+    public static synchronized File dumpCsv(File directory) {
+        String stamp = new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss", Locale.ROOT).format(new Date());
+        File file = new File(directory, "metrics-" + stamp + ".csv");
+
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            TVMod.LOGGER.error("Could not create metrics directory {}", directory);
+            return null;
+        }
+
+        try (PrintWriter out = new PrintWriter(file, StandardCharsets.UTF_8.name())) {
+            out.println("name,type,value,count,mean,p50,p95,max");
+            for (Map.Entry<String, Counter> entry : counters.entrySet()) {
+                out.println(entry.getKey() + ",counter," + entry.getValue().get() + ",,,,,");
+            }
+            for (Map.Entry<String, LongSupplier> entry : gauges.entrySet()) {
+                out.println(entry.getKey() + ",gauge," + entry.getValue().getAsLong() + ",,,,,");
+            }
+            for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+                Histogram histogram = entry.getValue();
+                out.println(entry.getKey() + ",histogram," + histogram.getSum() + "," + histogram.getCount()
+                        + "," + histogram.getMean() + "," + histogram.percentile(0.5)
+                        + "," + histogram.percentile(0.95) + "," + histogram.getMax());
+            }
+        } catch (IOException e) {
+            TVMod.LOGGER.error("Failed to write metrics to {}: {}", file, e.getMessage());
+            return null;
+        }
+
+        TVMod.LOGGER.info("Wrote TV metrics to {}", file);
+        return file;
+    }
+}
@@ -1,9 +1,11 @@
 package com.tvmod.client;
 
 import com.tvmod.TVMod;
-import net.minecraft.client.Minecraft;
-import net.minecraft.client.renderer.texture.DynamicTexture;
-import net.minecraft.client.renderer.texture.NativeImage;
+import com.tvmod.client.PlaceholderTextures.Placeholder;
+import com.tvmod.client.backend.MCEFBackend;
+import com.tvmod.client.backend.VideoBackends;
+import com.tvmod.client.backend.WaterMediaBackend;
+import com.tvmod.util.PlaybackClock;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.BlockPos;
@@ -14,7 +16,8 @@ import javax.annotation.Nullable;
 
 /**
  * Video player for TV blocks. Handles video playback and texture rendering.
- * Uses WATERMeDIA for actual video playback when available.
+ * Playback itself runs in a {@link PlaybackSession} shared with every other
+ * TV showing the same video; WATERMeDIA is used when available.
  * 
  * Requirements: 3.1, 3.4, 4.1, 4.2, 4.3, 4.4
  */
@@ -22,119 +25,194 @@ import javax.annotation.Nullable;
 public class TVVideoPlayer {
 
     private final BlockPos pos;
-    private DynamicTexture texture;
-    private ResourceLocation textureLocation;
-    private NativeImage frameBuffer;
 
-    private int textureWidth = 854;
-    private int textureHeight = 480;
+    // Shared placeholder shown until a backend delivers frames
+    private Placeholder placeholder = null;
+    private ResourceLocation placeholderLocation;
+
+    // Private frame texture, only allocated while a backend delivers CPU frames
+    private FramePipeline texture;
+    private ScreenTextures.Handle textureHandle;
+    private FrameSource frameSource;
+
+    // Borrowed backend GL texture, used when frames are already on the GPU
+    private ExternalTexture externalTexture;
+    private ScreenTextures.Handle externalHandle;
+
+    private VisibilityState visibility = VisibilityState.VISIBLE;
+    private PlaybackTier tier = PlaybackTier.FULL;
+    private int screenSize = 2;
+    private ResolutionTier resolution = ResolutionTier.DEFAULT;
+    private int textureWidth = resolution.width;
+    private int textureHeight = resolution.height;
 
     private String currentUrl = "";
     private boolean isPlaying = false;
-    private long playbackPosition = 0;
-    private long startTime = 0;
+    private final PlaybackClock clock = new PlaybackClock();
     private float volume = 1.0f;
+    // Null follows the configured default
+    private AttenuationModel attenuation = null;
 
-    // WATERMeDIA player instance
-    private Object waterMediaPlayer = null;
-    private boolean waterMediaAvailable = false;
-
-    // MCEF player (alternative)
-    private MCEFVideoPlayer mcefPlayer = null;
-    private boolean useMCEF = false;
+    // Shared playback backend, owned by VideoPlayerManager
+    private PlaybackSession session = null;
 
-    // Optimization: only update texture every N ticks
-    private int tickCounter = 0;
-    private static final int TEXTURE_UPDATE_INTERVAL = 10;
-    private boolean textureNeedsUpdate = true;
+    // Deferred by VideoPlayerManager every few ticks; one instance, no per-tick allocation
+    final Runnable resolutionJob = () -> VideoPlayerManager.updateResolution(this);
 
     public TVVideoPlayer(BlockPos pos) {
         this.pos = pos;
-        initializeTexture();
-        checkWaterMediaAvailability();
+        showPlaceholder(Placeholder.BLACK);
     }
 
-    private void checkWaterMediaAvailability() {
-        try {
-            Class.forName("me.srrapero720.watermedia.api.player.SyncVideoPlayer");
-            waterMediaAvailable = true;
-            TVMod.LOGGER.info("WATERMeDIA detected at {}", pos);
-            return;
-        } catch (ClassNotFoundException e) {
-            waterMediaAvailable = false;
+    private void showPlaceholder(Placeholder next) {
+        if (next == placeholder) return;
+        if (placeholder != null) {
+            PlaceholderTextures.release(placeholder);
         }
+        placeholder = next;
+        placeholderLocation = PlaceholderTextures.acquire(next);
+    }
 
-        try {
-            Class.forName("net.montoyo.mcef.api.API");
-            useMCEF = true;
-            mcefPlayer = new MCEFVideoPlayer(pos);
-            TVMod.LOGGER.info("MCEF detected, using browser playback at {}", pos);
-            return;
-        } catch (ClassNotFoundException e) {
-            try {
-                Class.forName("com.cinemamod.mcef.MCEF");
-                useMCEF = true;
-                mcefPlayer = new MCEFVideoPlayer(pos);
-                TVMod.LOGGER.info("CinemaMod MCEF detected, using browser playback at {}", pos);
-                return;
-            } catch (ClassNotFoundException e2) {
-            }
+    private void releasePlaceholder() {
+        if (placeholder != null) {
+            PlaceholderTextures.release(placeholder);
+            placeholder = null;
+            placeholderLocation = null;
         }
-
-        TVMod.LOGGER.warn("No video backend found (WATERMeDIA or MCEF) - using simulated playback at {}", pos);
     }
 
-    private void initializeTexture() {
+    private void initializeTexture(FrameSource source) {
         try {
-            this.frameBuffer = new NativeImage(textureWidth, textureHeight, false);
-            fillWithColor(0xFF000000);
-            this.texture = new DynamicTexture(frameBuffer);
-            this.textureLocation = Minecraft.getInstance().getTextureManager()
-                    .register("tv_screen_" + pos.hashCode(), texture);
+            this.frameSource = source;
+            FramePipeline pipeline = new FramePipeline(textureWidth, textureHeight, source);
+            this.textureHandle = ScreenTextures.register("tv_screen", pipeline, pipeline::getMemoryBytes,
+                    true, "screen at " + pos);
+            this.texture = pipeline;
             TVMod.LOGGER.debug("Initialized TV texture at {}", pos);
         } catch (Exception e) {
             TVMod.LOGGER.error("Failed to initialize TV texture at {}: {}", pos, e.getMessage());
         }
     }
 
-    private void fillWithColor(int color) {
-        if (frameBuffer != null) {
-            for (int y = 0; y < textureHeight; y++) {
-                for (int x = 0; x < textureWidth; x++) {
-                    frameBuffer.setPixelRGBA(x, y, color);
-                }
-            }
+    /**
+     * Picks the render resolution for the current screen size and viewer
+     * distance, reallocating the private frame texture and resizing the shared
+     * session's browser when the tier changes.
+     */
+    public void updateResolution(int screenSize, double distance) {
+        this.screenSize = screenSize;
+        ResolutionTier next = ResolutionTier.select(resolution, screenSize, distance);
+        if (next == resolution) return;
+
+        TVMod.LOGGER.debug("TV at {} switching resolution {} -> {}", pos, resolution, next);
+        this.resolution = next;
+        applyResolution();
+    }
+
+    private void applyResolution() {
+        ResolutionTier effective = getResolution();
+        resizeTexture(effective.width, effective.height);
+        if (session != null) {
+            session.updateResolution();
         }
     }
 
-    private void fillWithNoise() {
-        if (frameBuffer != null) {
-            long time = System.currentTimeMillis();
-            for (int y = 0; y < textureHeight; y++) {
-                for (int x = 0; x < textureWidth; x++) {
-                    int noise = (int) ((Math.sin(x * 0.1 + time * 0.01) + 
-                                       Math.cos(y * 0.1 + time * 0.008)) * 64 + 128);
-                    noise = Math.max(0, Math.min(255, noise));
-                    int color = 0xFF000000 | (noise << 16) | (noise << 8) | noise;
-                    frameBuffer.setPixelRGBA(x, y, color);
-                }
-            }
+    public void setVisibility(VisibilityState state) {
+        if (state == visibility) return;
+        this.visibility = state;
+        if (session != null) {
+            session.updateVisibility();
         }
     }
 
-    private void fillWithPlayingIndicator() {
-        if (frameBuffer != null) {
-            for (int y = 0; y < textureHeight; y++) {
-                for (int x = 0; x < textureWidth; x++) {
-                    int blue = 100 + (y * 100 / textureHeight);
-                    int green = 50 + (x * 50 / textureWidth);
-                    int color = 0xFF000000 | (blue << 16) | (green << 8) | 30;
-                    frameBuffer.setPixelRGBA(x, y, color);
-                }
+    /**
+     * Applies the budget tier picked by {@link PlaybackScheduler}. Suspending
+     * pauses the shared backend once no subscriber needs it; resuming seeks
+     * it back to where this TV's clock says the video should be.
+     */
+    public void setPlaybackTier(PlaybackTier next) {
+        if (next == tier) return;
+        PlaybackTier previous = tier;
+        this.tier = next;
+        TVMod.LOGGER.debug("TV at {} playback tier {} -> {}", pos, previous, next);
+
+        applyResolution();
+        if (session != null) {
+            session.updateVisibility();
+            session.updatePlayState();
+            if (previous == PlaybackTier.SUSPENDED && isPlaying) {
+                session.seekTo(clock.getPosition());
             }
         }
     }
 
+    private void resizeTexture(int width, int height) {
+        if (width == textureWidth && height == textureHeight) return;
+
+        this.textureWidth = width;
+        this.textureHeight = height;
+        if (texture != null) {
+            FrameSource source = frameSource;
+            closeTexture();
+            initializeTexture(source);
+        }
+    }
+
+    private void closeTexture() {
+        if (textureHandle != null) {
+            textureHandle.release();
+            textureHandle = null;
+        }
+        texture = null;
+        frameSource = null;
+    }
+
+    /**
+     * Closes a texture evicted over the texture budget but keeps its source,
+     * so only a screen that is drawn again gets it back (see
+     * {@link #getTextureLocation}).
+     */
+    private void dropEvictedTexture() {
+        if (texture != null && !textureHandle.isValid()) {
+            FrameSource source = frameSource;
+            closeTexture();
+            frameSource = source;
+        }
+    }
+
+    /**
+     * Uploads the newest decoded frame; called once per render frame.
+     */
+    public void uploadFrame() {
+        dropEvictedTexture();
+        // Suspended TVs keep their last uploaded frame as a poster
+        if (texture != null && visibility == VisibilityState.VISIBLE && tier != PlaybackTier.SUSPENDED) {
+            texture.update();
+        }
+    }
+
+    /**
+     * Points the screen at a GL texture the backend renders into, so frames
+     * reach the renderer without a CPU copy or upload.
+     */
+    private void showExternalTexture(int glId) {
+        closeTexture();
+        if (externalTexture == null) {
+            externalTexture = new ExternalTexture();
+            externalHandle = ScreenTextures.register("tv_external", externalTexture, () -> 0L,
+                    false, "backend texture at " + pos);
+        }
+        externalTexture.setExternalId(glId);
+    }
+
+    private void closeExternalTexture() {
+        if (externalHandle != null) {
+            externalHandle.release();
+            externalHandle = null;
+        }
+        externalTexture = null;
+    }
+
     public void play(String url) {
         play(url, "medium", 1);
     }
@@ -151,274 +229,230 @@ public class TVVideoPlayer {
 
         this.currentUrl = url;
         this.isPlaying = true;
-        this.playbackPosition = 0;
-        this.startTime = System.currentTimeMillis();
-        textureNeedsUpdate = true;
-
-        if (useMCEF && mcefPlayer != null) {
-            mcefPlayer.setQuality(quality);
-            mcefPlayer.setSourceIndex(sourceIndex);
-            mcefPlayer.play(url, quality, sourceIndex);
-            TVMod.LOGGER.info("MCEF playback started for {} at {} with quality {} source {}", 
-                    url, pos, quality, MCEFVideoPlayer.VIDEO_SOURCES[sourceIndex]);
-        } else if (waterMediaAvailable) {
-            startWaterMediaPlayback(url);
-        } else {
-            TVMod.LOGGER.info("Simulated playback started for {} at {}", url, pos);
+        clock.seek(0);
+        clock.start();
+
+        String key = PlaybackSession.keyOf(url, sourceIndex);
+        if (session != null && !session.getKey().equals(key)) {
+            leaveSession();
+        }
+        if (session == null) {
+            session = VideoPlayerManager.joinSession(this, url, quality, sourceIndex);
         }
+        // Start at full quality; the scheduler demotes it later if over budget
+        setPlaybackTier(PlaybackTier.FULL);
+        session.updatePlayState();
     }
 
-    private void startWaterMediaPlayback(String url) {
-        try {
-            Class<?> syncPlayerClass = Class.forName("me.srrapero720.watermedia.api.player.SyncVideoPlayer");
-            if (waterMediaPlayer == null) {
-                waterMediaPlayer = syncPlayerClass.getConstructor().newInstance();
-            }
-            syncPlayerClass.getMethod("start", String.class).invoke(waterMediaPlayer, url);
-            TVMod.LOGGER.info("WATERMeDIA playback started for {} at {}", url, pos);
-        } catch (Exception e) {
-            TVMod.LOGGER.error("Failed to start WATERMeDIA playback: {}", e.getMessage());
-            waterMediaAvailable = false;
-            fillWithPlayingIndicator();
-            if (texture != null) {
-                texture.upload();
-            }
+    private void leaveSession() {
+        if (session != null) {
+            VideoPlayerManager.leaveSession(this, session);
+            session = null;
         }
     }
 
     public void pause() {
         if (!isPlaying) return;
         this.isPlaying = false;
-        this.playbackPosition = System.currentTimeMillis() - startTime;
-
-        if (useMCEF && mcefPlayer != null) {
-            mcefPlayer.pause();
-        } else if (waterMediaAvailable && waterMediaPlayer != null) {
-            try {
-                waterMediaPlayer.getClass().getMethod("pause").invoke(waterMediaPlayer);
-            } catch (Exception e) {
-                TVMod.LOGGER.debug("Failed to pause WATERMeDIA: {}", e.getMessage());
-            }
-        }
+        clock.pause();
 
-        fillWithColor(0xFF222244);
-        if (texture != null) {
-            texture.upload();
+        if (session != null) {
+            session.updatePlayState();
         }
+
+        closeTexture();
+        closeExternalTexture();
+        showPlaceholder(Placeholder.PAUSED);
         TVMod.LOGGER.debug("Paused video at {}", pos);
     }
 
     public void resume() {
         if (isPlaying || currentUrl.isEmpty()) return;
         this.isPlaying = true;
-        this.startTime = System.currentTimeMillis() - playbackPosition;
-
-        if (useMCEF && mcefPlayer != null) {
-            mcefPlayer.resume();
-        } else if (waterMediaAvailable && waterMediaPlayer != null) {
-            try {
-                waterMediaPlayer.getClass().getMethod("play").invoke(waterMediaPlayer);
-            } catch (Exception e) {
-                TVMod.LOGGER.debug("Failed to resume WATERMeDIA: {}", e.getMessage());
-            }
+        clock.start();
+
+        if (session != null) {
+            session.updatePlayState();
         }
         TVMod.LOGGER.debug("Resumed video at {}", pos);
     }
 
     public void stop() {
         this.isPlaying = false;
-        this.playbackPosition = 0;
-        this.startTime = 0;
-
-        if (useMCEF && mcefPlayer != null) {
-            mcefPlayer.stop();
-        } else if (waterMediaAvailable && waterMediaPlayer != null) {
-            try {
-                waterMediaPlayer.getClass().getMethod("stop").invoke(waterMediaPlayer);
-            } catch (Exception e) {
-                TVMod.LOGGER.debug("Failed to stop WATERMeDIA: {}", e.getMessage());
-            }
-        }
+        clock.stop();
 
-        fillWithColor(0xFF000000);
-        if (texture != null) {
-            texture.upload();
-        }
+        leaveSession();
+
+        closeTexture();
+        closeExternalTexture();
+        showPlaceholder(Placeholder.BLACK);
         TVMod.LOGGER.debug("Stopped video at {}", pos);
     }
 
     public void setVolume(float volume) {
         this.volume = Math.max(0.0f, Math.min(1.0f, volume));
+    }
 
-        if (useMCEF && mcefPlayer != null) {
-            mcefPlayer.setVolume(this.volume);
-        } else if (waterMediaAvailable && waterMediaPlayer != null) {
-            try {
-                waterMediaPlayer.getClass().getMethod("setVolume", int.class)
-                        .invoke(waterMediaPlayer, (int) (this.volume * 100));
-            } catch (Exception e) {
-                TVMod.LOGGER.debug("Failed to set volume: {}", e.getMessage());
-            }
-        }
+    public void setAttenuation(@Nullable AttenuationModel attenuation) {
+        this.attenuation = attenuation;
     }
 
     public void setPlaybackSpeed(float speed) {
-        if (useMCEF && mcefPlayer != null) {
-            mcefPlayer.setPlaybackSpeed(speed);
-        } else if (waterMediaAvailable && waterMediaPlayer != null) {
-            try {
-                waterMediaPlayer.getClass().getMethod("setRate", float.class)
-                        .invoke(waterMediaPlayer, speed);
-            } catch (Exception e) {
-                TVMod.LOGGER.debug("Failed to set playback speed: {}", e.getMessage());
-            }
+        clock.setRate(speed);
+        if (session != null) {
+            session.setPlaybackSpeed(speed);
         }
         TVMod.LOGGER.debug("Playback speed set to {}x at {}", speed, pos);
     }
 
     public void seekTo(long position) {
-        this.playbackPosition = position;
-        this.startTime = System.currentTimeMillis() - position;
-
-        if (waterMediaAvailable && waterMediaPlayer != null) {
-            try {
-                waterMediaPlayer.getClass().getMethod("seekTo", long.class).invoke(waterMediaPlayer, position);
-            } catch (Exception e) {
-                TVMod.LOGGER.debug("Failed to seek: {}", e.getMessage());
-            }
+        clock.seek(position);
+
+        if (session != null) {
+            session.seekTo(position);
         }
     }
 
     public boolean isPlaying() { return isPlaying; }
 
+    /**
+     * Playing and not suspended by the playback budget.
+     */
+    public boolean isActive() { return isPlaying && tier != PlaybackTier.SUSPENDED; }
+
     public long getPosition() {
-        if (isPlaying) {
-            return System.currentTimeMillis() - startTime;
-        }
-        return playbackPosition;
+        return clock.getPosition();
     }
 
     public long getDuration() {
-        if (waterMediaAvailable && waterMediaPlayer != null) {
-            try {
-                return (Long) waterMediaPlayer.getClass().getMethod("getDuration").invoke(waterMediaPlayer);
-            } catch (Exception e) {}
-        }
-        return 0;
+        return session != null ? session.getDuration() : 0;
     }
 
+    /**
+     * Texture to draw the screen with; called by the renderer. Recreates a
+     * frame texture evicted over the budget, since the screen is in use again.
+     */
     @Nullable
-    public ResourceLocation getTextureLocation() { return textureLocation; }
+    public ResourceLocation getTextureLocation() {
+        if (externalHandle != null) return externalHandle.getLocation();
+        dropEvictedTexture();
+        if (texture == null && frameSource != null) {
+            initializeTexture(frameSource);
+        }
+        if (texture != null) {
+            textureHandle.markRendered();
+            // Keep the placeholder up until the first decoded frame has been uploaded
+            if (texture.getUploadedFrames() > 0) return textureHandle.getLocation();
+        }
+        return placeholderLocation;
+    }
+
     public String getCurrentUrl() { return currentUrl; }
     public float getVolume() { return volume; }
+    @Nullable
+    public AttenuationModel getAttenuation() { return attenuation; }
     public BlockPos getPos() { return pos; }
     public int getTextureWidth() { return textureWidth; }
     public int getTextureHeight() { return textureHeight; }
-
-    public void tick(PlayerEntity player) {
-        if (!isPlaying) return;
-        tickCounter++;
-
-        if (useMCEF && mcefPlayer != null) {
-            mcefPlayer.tick(player);
-        }
-
-        if (tickCounter % TEXTURE_UPDATE_INTERVAL == 0 || textureNeedsUpdate) {
-            if (!waterMediaAvailable || waterMediaPlayer == null) {
-                fillWithPlayingIndicator();
-                if (texture != null) {
-                    texture.upload();
-                }
-            }
-            textureNeedsUpdate = false;
-        }
-
-        if (tickCounter % 20 == 0 && player != null) {
-            updateSpatialAudio(player);
+    public VisibilityState getVisibility() { return visibility; }
+    public PlaybackTier getPlaybackTier() { return tier; }
+
+    /**
+     * Resolution this TV needs, capped while the budget has it degraded.
+     */
+    public ResolutionTier getResolution() {
+        if (tier == PlaybackTier.DEGRADED && resolution.ordinal() > PlaybackTier.DEGRADED_RESOLUTION.ordinal()) {
+            return PlaybackTier.DEGRADED_RESOLUTION;
         }
+        return resolution;
     }
 
-    private void updateWaterMediaTexture() {
-        try {
-            Object textureId = waterMediaPlayer.getClass().getMethod("texture").invoke(waterMediaPlayer);
-            if (textureId instanceof Integer && (Integer) textureId > 0) {
-            }
-        } catch (Exception e) {}
+    /**
+     * Visibility reported to the session; suspended TVs need nothing from it.
+     */
+    public VisibilityState getEffectiveVisibility() {
+        return tier == PlaybackTier.SUSPENDED ? VisibilityState.DORMANT : visibility;
     }
+    public int getScreenSize() { return screenSize; }
 
-    private void updateSpatialAudio(PlayerEntity player) {
-        double distance = Math.sqrt(player.distanceToSqr(
-                pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5));
-        float spatialVolume = VolumeCalculator.calculateVolume(distance, volume);
-
-        if (waterMediaAvailable && waterMediaPlayer != null) {
-            try {
-                waterMediaPlayer.getClass().getMethod("setVolume", int.class)
-                        .invoke(waterMediaPlayer, (int) (spatialVolume * 100));
-            } catch (Exception e) {}
-        }
-    }
+    @Nullable
+    public PlaybackSession getSession() { return session; }
 
-    public void release() {
-        TVMod.LOGGER.debug("Releasing TV video player at {}", pos);
+    public void tick(PlayerEntity player) {
+        if (!isPlaying || tier == PlaybackTier.SUSPENDED) return;
 
-        if (mcefPlayer != null) {
-            mcefPlayer.release();
-            mcefPlayer = null;
+        // Follow the backend when it reports a position; slews out small drift
+        if (session != null) {
+            long reported = session.getPosition();
+            if (reported >= 0) clock.correct(reported);
         }
 
-        if (waterMediaPlayer != null) {
-            try {
-                waterMediaPlayer.getClass().getMethod("stop").invoke(waterMediaPlayer);
-                waterMediaPlayer.getClass().getMethod("release").invoke(waterMediaPlayer);
-            } catch (Exception e) {
-                TVMod.LOGGER.debug("Error releasing WATERMeDIA: {}", e.getMessage());
+        if (visibility != VisibilityState.VISIBLE) return;
+
+        // Each branch is a no-op once the right texture is in place
+        if (session != null && session.providesFrames()) {
+            int glId = session.getTextureId();
+            FrameSource source = session.getFrameSource();
+            if (glId > 0) {
+                showExternalTexture(glId);
+            } else if (source != null) {
+                closeExternalTexture();
+                if (source != frameSource) {
+                    closeTexture();
+                    initializeTexture(source);
+                }
             }
-            waterMediaPlayer = null;
-        }
-
-        if (texture != null) {
-            try { texture.close(); } catch (Exception e) {}
-            texture = null;
+        } else {
+            closeTexture();
+            closeExternalTexture();
+            showPlaceholder(Placeholder.PLAYING);
         }
+    }
 
-        if (frameBuffer != null) {
-            try { frameBuffer.close(); } catch (Exception e) {}
-            frameBuffer = null;
-        }
+    public void release() {
+        TVMod.LOGGER.debug("Releasing TV video player at {}", pos);
 
-        if (textureLocation != null) {
-            Minecraft.getInstance().getTextureManager().release(textureLocation);
-            textureLocation = null;
-        }
+        leaveSession();
+        closeTexture();
+        closeExternalTexture();
+        releasePlaceholder();
 
         isPlaying = false;
         currentUrl = "";
-        playbackPosition = 0;
+        clock.stop();
     }
 
-    public boolean isWaterMediaAvailable() { return waterMediaAvailable; }
-    public boolean isMCEFAvailable() { return useMCEF && mcefPlayer != null; }
+    public boolean isWaterMediaAvailable() {
+        return session != null && WaterMediaBackend.NAME.equals(session.getBackend().getName());
+    }
+
+    public boolean isMCEFAvailable() {
+        return VideoBackends.isAvailable(MCEFBackend.NAME);
+    }
 
     @Nullable
     public MCEFVideoPlayer getMCEFPlayer() {
-        if (useMCEF && mcefPlayer != null) return mcefPlayer;
-        return null;
+        return session != null ? session.getMCEFPlayer() : null;
+    }
+
+    /**
+     * MCEF player for the in-world browser. A TV that is not playing anything
+     * gets a private browser session first.
+     */
+    @Nullable
+    public MCEFVideoPlayer openBrowser() {
+        if (session == null) {
+            session = VideoPlayerManager.joinBrowserSession(this);
+        }
+        return getMCEFPlayer();
     }
 
     public int getMCEFTextureId() {
-        if (useMCEF && mcefPlayer != null) return mcefPlayer.getTextureId();
-        return -1;
+        return session != null ? session.getMCEFTextureId() : -1;
     }
 
     @Nullable
     public ResourceLocation getMCEFTextureLocation() {
-        if (useMCEF && mcefPlayer != null) {
-            ResourceLocation texLoc = mcefPlayer.getTextureLocationAsResource();
-            if (texLoc != null) return texLoc;
-            Object texLocObj = mcefPlayer.getTextureLocation();
-            if (texLocObj instanceof ResourceLocation) return (ResourceLocation) texLocObj;
-        }
-        return null;
+        return session != null ? session.getMCEFTextureLocation() : null;
     }
 }
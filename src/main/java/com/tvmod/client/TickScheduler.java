@@ -0,0 +1,90 @@
+package com.tvmod.client;
+
+import com.tvmod.TVMod;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Spreads client tick work under a time budget. Urgent work done by the
+ * caller between {@link #begin} and {@link #drain} is charged to the budget;
+ * deferred jobs wait in a round-robin queue and run while budget is left, so
+ * a job skipped this tick is first in line on the next one. At least one deferred job runs per tick so nothing starves.
+ * Jobs are keyed; deferring a key that is already queued does nothing.
+ */
+public class TickScheduler {
+
+    // Weight of the newest sample in the running job cost average
+    private static final double COST_SMOOTHING = 0.1;
+
+    private final ArrayDeque<Object> order = new ArrayDeque<>();
+    private final Map<Object, Runnable> pending = new HashMap<>();
+
+    private long tickStart;
+    private long budgetNanos;
+    private long averageJobNanos = 0;
+
+    private long lastTickNanos = 0;
+    private int lastDeferredRun = 0;
+
+    public void begin(long budgetNanos) {
+        this.tickStart = System.nanoTime();
+        this.budgetNanos = budgetNanos;
+        this.lastDeferredRun = 0;
+    }
+
+    public void defer(Object key, Runnable job) {
+        if (pending.putIfAbsent(key, job) == null) {
+            order.addLast(key);
+        }
+    }
+
+    /**
+     * Drops a queued job, e.g. because its owner was released.
+     */
+    public void cancel(Object key) {
+        if (pending.remove(key) != null) {
+            order.remove(key);
+        }
+    }
+
+    /**
+     * Runs deferred jobs until the budget is spent or is too small for
+     * another job of average cost.
+     */
+    public void drain() {
+        while (!order.isEmpty()) {
+            if (lastDeferredRun > 0 && getRemainingNanos() < averageJobNanos) break;
+
+            Object key = order.pollFirst();
+            Runnable job = pending.remove(key);
+            if (job == null) continue;
+
+            long start = System.nanoTime();
+            try {
+                job.run();
+            } catch (Exception e) {
+                TVMod.LOGGER.error("Error running deferred job {}: {}", key, e.getMessage());
+            }
+            long elapsed = System.nanoTime() - start;
+            averageJobNanos += (long) ((elapsed - averageJobNanos) * COST_SMOOTHING);
+            lastDeferredRun++;
+        }
+        lastTickNanos = System.nanoTime() - tickStart;
+    }
+
+    public void clear() {
+        order.clear();
+        pending.clear();
+    }
+
+    public long getRemainingNanos() {
+        return budgetNanos - (System.nanoTime() - tickStart);
+    }
+
+    public long getLastTickNanos() { return lastTickNanos; }
+    public int getLastDeferredRun() { return lastDeferredRun; }
+    public int getDeferredCount() { return pending.size(); }
+    public long getAverageJobNanos() { return averageJobNanos; }
+}
@@ -1,24 +1,72 @@
 package com.tvmod.client;
 
 import com.tvmod.TVMod;
+import com.tvmod.client.backend.MCEFBackend;
+import com.tvmod.client.backend.VideoBackendProvider;
+import com.tvmod.client.backend.VideoBackends;
+import com.tvmod.config.ClientConfig;
+import com.tvmod.tileentity.TVTileEntity;
 import net.minecraft.client.Minecraft;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @OnlyIn(Dist.CLIENT)
 public class VideoPlayerManager {
 
-    private static final Map<BlockPos, TVVideoPlayer> players = new HashMap<>();
+    // Release starts at least this far past the suspend radius
+    private static final double MIN_RELEASE_MARGIN = 16.0;
+    // Covers movement anywhere inside the current chunk section
+    private static final double SECTION_SLACK = 28.0;
+
+    private static final SpatialIndex<TVVideoPlayer> players = new SpatialIndex<>();
+    private static final Map<String, PlaybackSession> sessions = new HashMap<>();
+
+    // Players past the suspend radius, longest out of range first
+    private static final LinkedHashMap<BlockPos, TVVideoPlayer> suspended = new LinkedHashMap<>();
+
+    // Players near the player, refreshed when it enters another chunk section
+    private static final List<TVVideoPlayer> nearby = new ArrayList<>();
+    private static final List<TVVideoPlayer> scratch = new ArrayList<>();
+    private static final Set<TVVideoPlayer> scratchSet = new HashSet<>();
+    private static long nearbySection = Long.MIN_VALUE;
+    private static int nearbyVersion = -1;
+    private static long cleanupSection = Long.MIN_VALUE;
+    private static int cleanupVersion = -1;
+
+    private static final PlaybackScheduler scheduler = new PlaybackScheduler();
+    private static boolean scheduleNow = false;
+
+    // Deferred work runs round-robin within the per-tick budget
+    private static final TickScheduler ticks = new TickScheduler();
+
+    // Spatial gain of each nearby player, in the order of the nearby list
+    private static float[] gains = new float[16];
+    private static final List<TVVideoPlayer> audible = new ArrayList<>();
+
+    private static int tickCounter = 0;
+    private static final int RESOLUTION_UPDATE_INTERVAL = 20;
+    private static final int SCHEDULE_INTERVAL = 10;
 
     public static TVVideoPlayer getOrCreate(BlockPos pos) {
-        return players.computeIfAbsent(pos, TVVideoPlayer::new);
+        TVVideoPlayer player = players.get(pos);
+        if (player == null) {
+            player = new TVVideoPlayer(pos.immutable());
+            players.put(pos, player);
+        }
+        return player;
     }
 
     @Nullable
@@ -27,17 +75,109 @@ public class VideoPlayerManager {
     }
 
     public static boolean exists(BlockPos pos) {
-        return players.containsKey(pos);
+        return players.contains(pos);
     }
 
     public static void remove(BlockPos pos) {
-        TVVideoPlayer player = players.remove(pos);
+        TVVideoPlayer player = players.get(pos);
         if (player != null) {
-            player.release();
+            discard(player);
             TVMod.LOGGER.debug("Removed video player at {}", pos);
         }
     }
 
+    private static void discard(TVVideoPlayer player) {
+        players.remove(player.getPos());
+        suspended.remove(player.getPos());
+        ticks.cancel(player);
+        scheduler.forget(player);
+        AudioOcclusion.forget(player);
+        player.release();
+    }
+
+    /** Players further than this are paused but kept ready to resume. */
+    public static double getSuspendRadius() {
+        return ClientConfig.SUSPEND_RADIUS.get();
+    }
+
+    /** Players further than this are released. */
+    public static double getReleaseRadius() {
+        return Math.max(getSuspendRadius() + MIN_RELEASE_MARGIN, ClientConfig.RELEASE_RADIUS.get());
+    }
+
+    /**
+     * Releases every player in a chunk that the client just unloaded.
+     */
+    public static void removeChunk(int chunkX, int chunkZ) {
+        scratch.clear();
+        players.collectInChunk(chunkX, chunkZ, scratch);
+        for (TVVideoPlayer player : scratch) {
+            discard(player);
+            TVMod.LOGGER.debug("Removed video player at {} with its chunk", player.getPos());
+        }
+        scratch.clear();
+    }
+
+    /**
+     * Subscribes a TV to the shared session for this URL and source, starting
+     * the backend if this is the first TV to play it.
+     */
+    static PlaybackSession joinSession(TVVideoPlayer player, String url, String quality, int sourceIndex) {
+        String key = PlaybackSession.keyOf(url, sourceIndex);
+        PlaybackSession session = sessions.get(key);
+        if (session == null) {
+            session = new PlaybackSession(key, player.getPos(), url, quality, sourceIndex,
+                    VideoBackends.getPreferred());
+            sessions.put(key, session);
+            session.subscribe(player);
+            session.start();
+            TVMod.LOGGER.debug("Started playback session {} for {}", key, player.getPos());
+        } else {
+            session.subscribe(player);
+            TVMod.LOGGER.debug("Joined playback session {} ({} TVs) at {}", key,
+                    session.getSubscriberCount(), player.getPos());
+        }
+        return session;
+    }
+
+    /**
+     * Private, unshared browser session for a TV that is not playing anything.
+     * Returns null if no browser backend is available.
+     */
+    @Nullable
+    static PlaybackSession joinBrowserSession(TVVideoPlayer player) {
+        VideoBackendProvider browser = VideoBackends.find(MCEFBackend.NAME);
+        if (browser == null) return null;
+
+        String key = PlaybackSession.browserKeyOf(player.getPos());
+        PlaybackSession session = new PlaybackSession(key, player.getPos(), "", "medium", 0, browser);
+        session.subscribe(player);
+        sessions.put(key, session);
+        return session;
+    }
+
+    static void leaveSession(TVVideoPlayer player, PlaybackSession session) {
+        if (session.unsubscribe(player)) {
+            sessions.remove(session.getKey());
+            ticks.cancel(session);
+            session.release();
+        } else {
+            session.updatePlayState();
+        }
+    }
+
+    /**
+     * Queues work that may wait for a later tick when the budget is spent.
+     */
+    public static void defer(Object key, Runnable job) {
+        ticks.defer(key, job);
+    }
+
+    /**
+     * Per-tick work. Visibility, each TV's clock and texture state and the
+     * spatial audio pass are urgent; resolution changes, playback scheduling
+     * and session ticks (browser scripts) are deferred and time-sliced.
+     */
     public static void tick() {
         Minecraft mc = Minecraft.getInstance();
         if (mc.level == null || mc.player == null) {
@@ -45,15 +185,186 @@ public class VideoPlayerManager {
         }
 
         PlayerEntity player = mc.player;
+        ticks.begin(ClientConfig.TICK_BUDGET_MICROS.get() * 1000L);
+        boolean updateResolution = ++tickCounter % RESOLUTION_UPDATE_INTERVAL == 0;
+        ViewCone view = ViewCone.fromCamera(mc);
+        refreshNearby(player);
 
-        for (TVVideoPlayer videoPlayer : players.values()) {
+        if (scheduleNow || tickCounter % SCHEDULE_INTERVAL == 0) {
+            scheduleNow = false;
+            ticks.defer(scheduler, VideoPlayerManager::schedulePlayback);
+        }
+
+        for (int i = 0; i < nearby.size(); i++) {
+            TVVideoPlayer videoPlayer = nearby.get(i);
             try {
+                videoPlayer.setVisibility(classify(view, player, videoPlayer));
+                if (updateResolution) {
+                    ticks.defer(videoPlayer, videoPlayer.resolutionJob);
+                }
+                long start = System.nanoTime();
                 videoPlayer.tick(player);
+                long nanos = System.nanoTime() - start;
+                TVMetrics.PLAYER_TICK_MICROS.record(nanos / 1000);
             } catch (Exception e) {
                 TVMod.LOGGER.error("Error ticking video player at {}: {}", 
                         videoPlayer.getPos(), e.getMessage());
             }
         }
+
+        updateSpatialAudio(player);
+
+        for (PlaybackSession session : sessions.values()) {
+            ticks.defer(session, session.tickJob);
+        }
+
+        ticks.drain();
+        TVMetrics.MANAGER_TICK_MICROS.record(ticks.getLastTickNanos() / 1000);
+    }
+
+    /**
+     * Computes every nearby TV's gain for the listener in one pass from its
+     * precompiled falloff (see {@link AttenuationCurve}), muffled by walls in
+     * between (see {@link AudioOcclusion}), then lets each
+     * session follow its loudest subscriber. TVs outside the nearby set are
+     * past hearing range and contribute nothing.
+     */
+    private static void updateSpatialAudio(PlayerEntity player) {
+        int count = nearby.size();
+        if (gains.length < count) {
+            gains = new float[Math.max(count, gains.length * 2)];
+        }
+
+        boolean occlusion = ClientConfig.AUDIO_OCCLUSION.get();
+        double maxDistanceSqr = VolumeCalculator.MAX_DISTANCE * VolumeCalculator.MAX_DISTANCE;
+        audible.clear();
+        for (int i = 0; i < count; i++) {
+            TVVideoPlayer videoPlayer = nearby.get(i);
+            BlockPos pos = videoPlayer.getPos();
+            double distanceSqr = player.distanceToSqr(pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5);
+            if (!videoPlayer.isActive() || distanceSqr >= maxDistanceSqr) {
+                gains[i] = 0.0f;
+                continue;
+            }
+            gains[i] = AttenuationCurve.get(videoPlayer.getAttenuation()).lookup(distanceSqr) * videoPlayer.getVolume();
+            if (occlusion) {
+                gains[i] *= AudioOcclusion.getFactor(videoPlayer);
+                audible.add(videoPlayer);
+            }
+        }
+        if (occlusion) {
+            AudioOcclusion.update(player.level, player.getEyePosition(1.0f), audible);
+        }
+
+        for (PlaybackSession session : sessions.values()) {
+            session.beginGainPass();
+        }
+        for (int i = 0; i < count; i++) {
+            PlaybackSession session = nearby.get(i).getSession();
+            if (session != null) session.offerGain(gains[i]);
+        }
+        for (PlaybackSession session : sessions.values()) {
+            try {
+                session.applyGain();
+            } catch (Exception e) {
+                TVMod.LOGGER.error("Error updating volume of playback session {}: {}",
+                        session.getKey(), e.getMessage());
+            }
+        }
+    }
+
+    private static void schedulePlayback() {
+        Minecraft mc = Minecraft.getInstance();
+        if (mc.player == null) return;
+        scheduler.update(mc, mc.player, nearby, getSuspendRadius());
+    }
+
+    static void tickSession(PlaybackSession session) {
+        if (sessions.get(session.getKey()) != session) return;
+        try {
+            session.tick();
+        } catch (Exception e) {
+            TVMod.LOGGER.error("Error ticking playback session {}: {}",
+                    session.getKey(), e.getMessage());
+        }
+    }
+
+    /**
+     * Recomputes the nearby set when the player enters another chunk section
+     * or players were added or removed. Players that drop out go dormant, and
+     * the next schedule suspends them.
+     */
+    private static void refreshNearby(PlayerEntity player) {
+        long section = SpatialIndex.sectionKey(player.getX(), player.getY(), player.getZ());
+        if (section == nearbySection && players.getVersion() == nearbyVersion) return;
+        nearbySection = section;
+        nearbyVersion = players.getVersion();
+
+        scratch.clear();
+        players.collectWithin(player.getX(), player.getY(), player.getZ(), getSuspendRadius() + SECTION_SLACK, scratch);
+        scratchSet.addAll(scratch);
+        for (TVVideoPlayer previous : nearby) {
+            if (!scratchSet.contains(previous)) {
+                previous.setVisibility(VisibilityState.DORMANT);
+                scheduleNow = true;
+            }
+        }
+        nearby.clear();
+        nearby.addAll(scratch);
+        scratch.clear();
+        scratchSet.clear();
+    }
+
+    private static VisibilityState classify(ViewCone view, PlayerEntity player, TVVideoPlayer videoPlayer) {
+        BlockPos pos = videoPlayer.getPos();
+        double x = pos.getX() + 0.5;
+        double y = pos.getY() + 0.5;
+        double z = pos.getZ() + 0.5;
+
+        // Bounding sphere around the screen, which extends past the TV block for larger sizes
+        if (view.contains(x, y, z, videoPlayer.getScreenSize() * 0.75 + 0.5)) {
+            return VisibilityState.VISIBLE;
+        }
+        double maxDistance = VolumeCalculator.MAX_DISTANCE;
+        if (player.distanceToSqr(x, y, z) <= maxDistance * maxDistance) {
+            return VisibilityState.AUDIBLE_ONLY;
+        }
+        return VisibilityState.DORMANT;
+    }
+
+    static void updateResolution(TVVideoPlayer videoPlayer) {
+        Minecraft mc = Minecraft.getInstance();
+        if (mc.level == null || mc.player == null) return;
+
+        BlockPos pos = videoPlayer.getPos();
+        TileEntity tileEntity = mc.level.getBlockEntity(pos);
+        if (!(tileEntity instanceof TVTileEntity)) return;
+
+        TVTileEntity tv = (TVTileEntity) tileEntity;
+        double distance = Math.sqrt(mc.player.distanceToSqr(pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5));
+        videoPlayer.updateResolution(tv.getScreenSize(), distance);
+        videoPlayer.setAttenuation(AttenuationModel.byName(tv.getAttenuation()));
+    }
+
+    /**
+     * Delivers coalesced browser input; called once per render frame.
+     */
+    public static void flushInput() {
+        for (PlaybackSession session : sessions.values()) {
+            MCEFVideoPlayer mcefPlayer = session.getMCEFPlayer();
+            if (mcefPlayer != null) {
+                mcefPlayer.flushInput();
+            }
+        }
+    }
+
+    /**
+     * Uploads decoded CPU frames; called once per render frame.
+     */
+    public static void uploadFrames() {
+        for (int i = 0; i < nearby.size(); i++) {
+            nearby.get(i).uploadFrame();
+        }
     }
 
     public static void clear() {
@@ -69,34 +380,87 @@ public class VideoPlayerManager {
         }
 
         players.clear();
+        suspended.clear();
+        nearby.clear();
+        audible.clear();
+        ticks.clear();
+        scheduler.clear();
+        AudioOcclusion.clear();
+        nearbySection = Long.MIN_VALUE;
+        cleanupSection = Long.MIN_VALUE;
+
+        for (PlaybackSession session : sessions.values()) {
+            try {
+                session.release();
+            } catch (Exception e) {
+                TVMod.LOGGER.error("Error releasing playback session {}: {}",
+                        session.getKey(), e.getMessage());
+            }
+        }
+        sessions.clear();
     }
 
-    public static void cleanupDistant(double maxDistance) {
+    /**
+     * Releases players past the release radius, plus the ones longest past
+     * the suspend radius once more than {@code maxSuspendedPlayers} are kept.
+     * Suspending them is left to the {@link PlaybackScheduler}. The gap
+     * between the two radii stops a player walking along the boundary from
+     * recreating TVs. Distances only change meaningfully when the player
+     * crosses into another chunk section, so this does nothing otherwise.
+     */
+    public static void cleanupDistant() {
         Minecraft mc = Minecraft.getInstance();
         if (mc.player == null) {
             return;
         }
 
-        double maxDistSq = maxDistance * maxDistance;
-        Iterator<Map.Entry<BlockPos, TVVideoPlayer>> iterator = players.entrySet().iterator();
-
-        while (iterator.hasNext()) {
-            Map.Entry<BlockPos, TVVideoPlayer> entry = iterator.next();
-            BlockPos pos = entry.getKey();
+        double x = mc.player.getX(), y = mc.player.getY(), z = mc.player.getZ();
+        long section = SpatialIndex.sectionKey(x, y, z);
+        if (section == cleanupSection && players.getVersion() == cleanupVersion) return;
+        cleanupSection = section;
 
-            double distSq = mc.player.distanceToSqr(
-                    pos.getX() + 0.5, 
-                    pos.getY() + 0.5, 
-                    pos.getZ() + 0.5);
+        scratch.clear();
+        players.collectOutside(x, y, z, getReleaseRadius(), scratch);
+        for (TVVideoPlayer player : scratch) {
+            discard(player);
+            TVMod.LOGGER.debug("Cleaned up distant video player at {}", player.getPos());
+        }
 
-            if (distSq > maxDistSq) {
-                entry.getValue().release();
-                iterator.remove();
-                TVMod.LOGGER.debug("Cleaned up distant video player at {}", pos);
+        // Back in range: the scheduler picks their tier and resumes them
+        double suspendRadius = getSuspendRadius();
+        Iterator<TVVideoPlayer> it = suspended.values().iterator();
+        while (it.hasNext()) {
+            TVVideoPlayer player = it.next();
+            BlockPos pos = player.getPos();
+            if (mc.player.distanceToSqr(pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5) <= suspendRadius * suspendRadius) {
+                it.remove();
+                scheduleNow = true;
             }
         }
+
+        scratch.clear();
+        players.collectOutside(x, y, z, suspendRadius, scratch);
+        for (TVVideoPlayer player : scratch) {
+            suspended.putIfAbsent(player.getPos(), player);
+        }
+        scratch.clear();
+
+        int maxSuspended = ClientConfig.MAX_SUSPENDED_PLAYERS.get();
+        it = suspended.values().iterator();
+        while (suspended.size() > maxSuspended && it.hasNext()) {
+            TVVideoPlayer player = it.next();
+            it.remove();
+            discard(player);
+            TVMod.LOGGER.debug("Evicted suspended video player at {}", player.getPos());
+        }
+        cleanupVersion = players.getVersion();
     }
 
+    /**
+     * Safety sweep for players whose TV block vanished without an event.
+     * Removal is normally handled by TVBlock.onRemove, TVTileEntity.setRemoved
+     * and the chunk/world events in ClientEvents.
+     */
     public static void cleanupInvalidBlocks() {
         Minecraft mc = Minecraft.getInstance();
         if (mc.level == null) {
@@ -107,28 +471,37 @@ public class VideoPlayerManager {
             return;
         }
 
-        Iterator<Map.Entry<BlockPos, TVVideoPlayer>> iterator = players.entrySet().iterator();
-
-        while (iterator.hasNext()) {
-            Map.Entry<BlockPos, TVVideoPlayer> entry = iterator.next();
-            BlockPos pos = entry.getKey();
-            TVVideoPlayer player = entry.getValue();
-
-            net.minecraft.block.BlockState state = mc.level.getBlockState(pos);
-            boolean isTVBlock = state.getBlock() instanceof com.tvmod.block.TVBlock;
-
-            if (!isTVBlock) {
-                TVMod.LOGGER.info("TV block no longer exists at {} - stopping video player", pos);
-                player.release();
-                iterator.remove();
+        scratch.clear();
+        for (TVVideoPlayer player : players.values()) {
+            net.minecraft.block.BlockState state = mc.level.getBlockState(player.getPos());
+            if (!(state.getBlock() instanceof com.tvmod.block.TVBlock)) {
+                scratch.add(player);
             }
         }
+
+        for (TVVideoPlayer player : scratch) {
+            TVMod.LOGGER.info("TV block no longer exists at {} - stopping video player", player.getPos());
+            discard(player);
+        }
+        scratch.clear();
     }
 
     public static int getPlayerCount() {
         return players.size();
     }
 
+    public static TickScheduler getTickScheduler() {
+        return ticks;
+    }
+
+    public static int getSuspendedCount() {
+        return suspended.size();
+    }
+
+    public static int getSessionCount() {
+        return sessions.size();
+    }
+
     public static int getPlayingCount() {
         int count = 0;
         for (TVVideoPlayer player : players.values()) {
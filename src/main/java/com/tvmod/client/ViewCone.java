@@ -0,0 +1,63 @@
+package com.tvmod.client;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.ActiveRenderInfo;
+import net.minecraft.util.math.vector.Vector3d;
+import net.minecraft.util.math.vector.Vector3f;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+/**
+ * Conservative approximation of the camera frustum as a cone around the look
+ * vector that encloses the whole screen diagonal. Built once per tick and
+ * used to classify TVs as on- or off-screen.
+ */
+@OnlyIn(Dist.CLIENT)
+public class ViewCone {
+
+    // Covers FOV effects such as sprinting and the distance a player can turn in one tick
+    private static final double FOV_MARGIN = 1.25;
+
+    private final double x, y, z;
+    private final double lookX, lookY, lookZ;
+    private final double halfAngle;
+    private final double maxDistanceSq;
+
+    private ViewCone(Vector3d position, Vector3f look, double halfAngle, double maxDistance) {
+        this.x = position.x;
+        this.y = position.y;
+        this.z = position.z;
+        this.lookX = look.x();
+        this.lookY = look.y();
+        this.lookZ = look.z();
+        this.halfAngle = halfAngle;
+        this.maxDistanceSq = maxDistance * maxDistance;
+    }
+
+    public static ViewCone fromCamera(Minecraft mc) {
+        ActiveRenderInfo camera = mc.gameRenderer.getMainCamera();
+        double aspect = (double) mc.getWindow().getWidth() / Math.max(1, mc.getWindow().getHeight());
+        double tanHalfVertical = Math.tan(Math.toRadians(mc.options.fov * FOV_MARGIN) / 2.0);
+        double halfAngle = Math.atan(tanHalfVertical * Math.sqrt(1.0 + aspect * aspect));
+        double maxDistance = mc.options.renderDistance * 16.0;
+        return new ViewCone(camera.getPosition(), camera.getLookVector(), Math.min(halfAngle, Math.PI / 2), maxDistance);
+    }
+
+    /**
+     * Whether a sphere of the given radius around the point may be on screen.
+     */
+    public boolean contains(double px, double py, double pz, double radius) {
+        double dx = px - x;
+        double dy = py - y;
+        double dz = pz - z;
+        double distanceSq = dx * dx + dy * dy + dz * dz;
+
+        if (distanceSq <= radius * radius) return true;
+        if (distanceSq > maxDistanceSq) return false;
+
+        double distance = Math.sqrt(distanceSq);
+        double cos = (dx * lookX + dy * lookY + dz * lookZ) / distance;
+        double angle = Math.acos(Math.max(-1.0, Math.min(1.0, cos)));
+        return angle - Math.asin(Math.min(1.0, radius / distance)) <= halfAngle;
+    }
+}
@@ -0,0 +1,16 @@
+package com.tvmod.client;
+
+/**
+ * How much of a TV the local player can currently perceive. Backends scale
+ * their work to it: full painting when visible, minimal painting when only
+ * the sound can be heard, and fully suspended when neither.
+ */
+public enum VisibilityState {
+    DORMANT,
+    AUDIBLE_ONLY,
+    VISIBLE;
+
+    public static VisibilityState max(VisibilityState a, VisibilityState b) {
+        return a.ordinal() >= b.ordinal() ? a : b;
+    }
+}
@@ -23,4 +23,9 @@ public class VolumeCalculator {
         float spatialVolume = calculateVolume(distance, baseVolume);
         return spatialVolume * Math.max(0.0f, Math.min(1.0f, playerMasterVolume));
     }
+
+    public static float calculateVolume(double distance, float baseVolume, AttenuationCurve curve) {
+        baseVolume = Math.max(0.0f, Math.min(1.0f, baseVolume));
+        return baseVolume * curve.gain(distance);
+    }
 }
@@ -0,0 +1,98 @@
+package com.tvmod.client.backend;
+
+import com.tvmod.client.MCEFVideoPlayer;
+import com.tvmod.client.VisibilityState;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+import javax.annotation.Nullable;
+
+/**
+ * Embedded Chromium backend (MCEF or CinemaMod MCEF) wrapping an
+ * {@link MCEFVideoPlayer}.
+ */
+@OnlyIn(Dist.CLIENT)
+public class MCEFBackend implements VideoBackend {
+
+    public static final String NAME = "mcef";
+
+    private final MCEFVideoPlayer player;
+
+    public MCEFBackend(BlockPos origin) {
+        this.player = new MCEFVideoPlayer(origin);
+    }
+
+    public MCEFVideoPlayer getPlayer() { return player; }
+
+    @Override
+    public String getName() { return NAME; }
+
+    @Override
+    public void play(String url, String quality, int sourceIndex) {
+        player.setQuality(quality);
+        player.setSourceIndex(sourceIndex);
+        player.play(url, quality, sourceIndex);
+    }
+
+    @Override public void pause() { player.pause(); }
+    @Override public void resume() { player.resume(); }
+    @Override public void stop() { player.stop(); }
+    @Override public void seekTo(long position) { player.seekTo(position); }
+    @Override public void setVolume(float volume) { player.setVolume(volume); }
+    @Override public void setPlaybackSpeed(float speed) { player.setPlaybackSpeed(speed); }
+    @Override public void setResolution(int width, int height) { player.resize(width, height); }
+    @Override public void setVisibility(VisibilityState state) { player.setVisibility(state); }
+    @Override public void tick() { player.tick(); }
+
+    @Override
+    public long getPosition() {
+        return player.hasReportedState() ? player.getReportedPosition() : -1;
+    }
+
+    @Override
+    public long getDuration() {
+        return player.hasReportedState() ? player.getReportedDuration() : 0;
+    }
+
+    @Override
+    public int getTextureId() { return player.getTextureId(); }
+
+    @Nullable
+    @Override
+    public ResourceLocation getTextureLocation() {
+        ResourceLocation texLoc = player.getTextureLocationAsResource();
+        if (texLoc != null) return texLoc;
+        Object texLocObj = player.getTextureLocation();
+        return texLocObj instanceof ResourceLocation ? (ResourceLocation) texLocObj : null;
+    }
+
+    @Override
+    public void release() { player.release(); }
+
+    public static class Provider implements VideoBackendProvider {
+
+        @Override public String getName() { return NAME; }
+        @Override public int getPriority() { return 100; }
+
+        @Override
+        public boolean probe() {
+            return classExists("net.montoyo.mcef.api.API") || classExists("com.cinemamod.mcef.MCEF");
+        }
+
+        private static boolean classExists(String name) {
+            try {
+                Class.forName(name);
+                return true;
+            } catch (ClassNotFoundException e) {
+                return false;
+            }
+        }
+
+        @Override
+        public VideoBackend create(BlockPos origin) {
+            return new MCEFBackend(origin);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.tvmod.client.backend;
+
+import com.tvmod.TVMod;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+/**
+ * Fallback used when no real video backend is installed. It only logs, and
+ * the TV shows its placeholder screen.
+ */
+@OnlyIn(Dist.CLIENT)
+public class SimulatedBackend implements VideoBackend {
+
+    public static final String NAME = "simulated";
+
+    private final BlockPos origin;
+
+    public SimulatedBackend(BlockPos origin) {
+        this.origin = origin;
+    }
+
+    @Override
+    public String getName() { return NAME; }
+
+    @Override
+    public void play(String url, String quality, int sourceIndex) {
+        TVMod.LOGGER.info("Simulated playback started for {} at {}", url, origin);
+    }
+
+    @Override public void pause() {}
+    @Override public void resume() {}
+    @Override public void stop() {}
+    @Override public void seekTo(long position) {}
+    @Override public void setVolume(float volume) {}
+    @Override public void setPlaybackSpeed(float speed) {}
+    @Override public void release() {}
+
+    public static class Provider implements VideoBackendProvider {
+
+        static final Provider INSTANCE = new Provider();
+
+        @Override public String getName() { return NAME; }
+        @Override public int getPriority() { return 0; }
+        @Override public boolean probe() { return true; }
+
+        @Override
+        public VideoBackend create(BlockPos origin) {
+            return new SimulatedBackend(origin);
+        }
+    }
+}
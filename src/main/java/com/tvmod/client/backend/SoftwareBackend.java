@@ -0,0 +1,152 @@
+package com.tvmod.client.backend;
+
+import com.tvmod.TVMod;
+import com.tvmod.client.FrameSource;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import org.lwjgl.system.MemoryUtil;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Test backend that draws scrolling colour bars with a progress line at 30
+ * fps into CPU frames. It exercises the frame pipeline without any decoder
+ * installed and is only used when selected in the client config.
+ */
+@OnlyIn(Dist.CLIENT)
+public class SoftwareBackend implements VideoBackend, FrameSource {
+
+    public static final String NAME = "software";
+
+    private static final int FRAME_RATE = 30;
+    private static final long DURATION_MS = 60_000;
+    private static final int[] BARS = {
+            0xFFC0C0C0, 0xFF00C0C0, 0xFFC0C000, 0xFF00C000,
+            0xFFC000C0, 0xFF0000C0, 0xFFC00000, 0xFF000000
+    };
+
+    private final BlockPos origin;
+
+    // Read by the frame worker
+    private volatile boolean playing = false;
+    private volatile long basePosition = 0;
+    private volatile long baseNanos = System.nanoTime();
+    private volatile float rate = 1.0f;
+
+    public SoftwareBackend(BlockPos origin) {
+        this.origin = origin;
+    }
+
+    @Override
+    public String getName() { return NAME; }
+
+    @Override
+    public void play(String url, String quality, int sourceIndex) {
+        rebase(0);
+        playing = true;
+        TVMod.LOGGER.info("Software test playback started for {} at {}", url, origin);
+    }
+
+    @Override
+    public void pause() {
+        rebase(getPosition());
+        playing = false;
+    }
+
+    @Override
+    public void resume() {
+        rebase(getPosition());
+        playing = true;
+    }
+
+    @Override
+    public void stop() {
+        rebase(0);
+        playing = false;
+    }
+
+    @Override
+    public void seekTo(long position) {
+        rebase(position);
+    }
+
+    @Override
+    public void setVolume(float volume) {}
+
+    @Override
+    public void setPlaybackSpeed(float speed) {
+        rebase(getPosition());
+        rate = speed;
+    }
+
+    private void rebase(long position) {
+        basePosition = Math.max(0, position) % DURATION_MS;
+        baseNanos = System.nanoTime();
+    }
+
+    @Override
+    public long getPosition() {
+        if (!playing) return basePosition;
+        long elapsed = (long) ((System.nanoTime() - baseNanos) / 1_000_000L * rate);
+        return (basePosition + elapsed) % DURATION_MS;
+    }
+
+    @Override
+    public long getDuration() { return DURATION_MS; }
+
+    @Override
+    public boolean providesFrames() { return true; }
+
+    @Override
+    public FrameSource getFrameSource() { return this; }
+
+    @Override
+    public long readFrame(ByteBuffer target, int width, int height, long previous) {
+        long position = getPosition();
+        long frame = position * FRAME_RATE / 1000;
+        if (frame == previous) return previous;
+
+        int barWidth = Math.max(1, width / BARS.length);
+        int shift = (int) (frame % width);
+        for (int x = 0; x < width; x++) {
+            int bar = ((x + shift) % width) / barWidth;
+            target.putInt(x * 4, BARS[Math.min(bar, BARS.length - 1)]);
+        }
+
+        int rowBytes = width * 4;
+        int barRows = height - Math.max(1, height / 20);
+        long address = MemoryUtil.memAddress(target);
+        for (int y = 1; y < barRows; y++) {
+            MemoryUtil.memCopy(address, address + (long) y * rowBytes, rowBytes);
+        }
+
+        int progress = (int) (position * width / DURATION_MS);
+        for (int y = barRows; y < height; y++) {
+            int offset = y * rowBytes;
+            for (int x = 0; x < width; x++) {
+                target.putInt(offset + x * 4, x < progress ? 0xFFFFFFFF : 0xFF202020);
+            }
+        }
+        return frame;
+    }
+
+    @Override
+    public void release() {
+        playing = false;
+    }
+
+    public static class Provider implements VideoBackendProvider {
+
+        @Override public String getName() { return NAME; }
+
+        // Below the simulated backend, so it is never picked automatically
+        @Override public int getPriority() { return -100; }
+        @Override public boolean probe() { return true; }
+
+        @Override
+        public VideoBackend create(BlockPos origin) {
+            return new SoftwareBackend(origin);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.tvmod.client.backend;
+
+import com.tvmod.client.FrameSource;
+import com.tvmod.client.VisibilityState;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+import javax.annotation.Nullable;
+
+/**
+ * A video playback implementation driven by a PlaybackSession. Instances are
+ * created through a {@link VideoBackendProvider} and are used from the client
+ * thread only.
+ */
+@OnlyIn(Dist.CLIENT)
+public interface VideoBackend {
+
+    String getName();
+
+    void play(String url, String quality, int sourceIndex);
+
+    void pause();
+
+    void resume();
+
+    void stop();
+
+    void seekTo(long position);
+
+    void setVolume(float volume);
+
+    void setPlaybackSpeed(float speed);
+
+    default void setResolution(int width, int height) {}
+
+    default void setVisibility(VisibilityState state) {}
+
+    default void tick() {}
+
+    /**
+     * Backend-reported position in milliseconds, or -1 if unknown.
+     */
+    default long getPosition() { return -1; }
+
+    default long getDuration() { return 0; }
+
+    /**
+     * Whether the backend renders video frames itself, so the TV should not
+     * paint its placeholder screen.
+     */
+    default boolean providesFrames() { return false; }
+
+    default int getTextureId() { return -1; }
+
+    /**
+     * CPU frame supplier for backends that decode into memory rather than a
+     * GL texture, or null.
+     */
+    @Nullable
+    default FrameSource getFrameSource() { return null; }
+
+    @Nullable
+    default ResourceLocation getTextureLocation() { return null; }
+
+    void release();
+}
@@ -0,0 +1,30 @@
+package com.tvmod.client.backend;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+/**
+ * Service interface for video backends, discovered through
+ * {@link java.util.ServiceLoader}. Implementations need a public no-arg
+ * constructor and an entry in
+ * {@code META-INF/services/com.tvmod.client.backend.VideoBackendProvider}.
+ */
+@OnlyIn(Dist.CLIENT)
+public interface VideoBackendProvider {
+
+    String getName();
+
+    /**
+     * Higher priorities are preferred when several backends are available.
+     */
+    int getPriority();
+
+    /**
+     * Checks whether the backend can run in this client. Called once at
+     * client setup; the result is cached by {@link VideoBackends}.
+     */
+    boolean probe();
+
+    VideoBackend create(BlockPos origin);
+}
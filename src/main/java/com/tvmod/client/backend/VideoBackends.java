@@ -0,0 +1,89 @@
+package com.tvmod.client.backend;
+
+import com.tvmod.TVMod;
+import com.tvmod.config.ClientConfig;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Probes every registered backend once and keeps the available ones ranked by
+ * priority, so creating a player never repeats class lookups.
+ */
+@OnlyIn(Dist.CLIENT)
+public class VideoBackends {
+
+    private static List<VideoBackendProvider> available = null;
+
+    public static synchronized void probe() {
+        if (available != null) return;
+
+        List<VideoBackendProvider> found = new ArrayList<>();
+        ServiceLoader<VideoBackendProvider> loader =
+                ServiceLoader.load(VideoBackendProvider.class, VideoBackendProvider.class.getClassLoader());
+
+        try {
+            for (VideoBackendProvider provider : loader) {
+                try {
+                    if (provider.probe()) {
+                        found.add(provider);
+                        TVMod.LOGGER.info("Video backend available: {} (priority {})",
+                                provider.getName(), provider.getPriority());
+                    } else {
+                        TVMod.LOGGER.debug("Video backend not available: {}", provider.getName());
+                    }
+                } catch (Exception | LinkageError e) {
+                    TVMod.LOGGER.warn("Video backend {} failed to probe: {}", provider.getName(), e.getMessage());
+                }
+            }
+        } catch (ServiceConfigurationError e) {
+            TVMod.LOGGER.error("Failed to load video backends: {}", e.getMessage());
+        }
+
+        found.sort(Comparator.comparingInt(VideoBackendProvider::getPriority).reversed());
+        if (found.isEmpty() || SimulatedBackend.NAME.equals(found.get(0).getName())) {
+            TVMod.LOGGER.warn("No video backend found (WATERMeDIA or MCEF) - using simulated playback");
+        }
+        available = Collections.unmodifiableList(found);
+    }
+
+    public static List<VideoBackendProvider> getAvailable() {
+        if (available == null) probe();
+        return available;
+    }
+
+    /**
+     * Backend chosen in the client config if it is available, otherwise the
+     * highest-ranked available one. The simulated backend is always
+     * registered, so this only falls back to it when nothing else is usable.
+     */
+    public static VideoBackendProvider getPreferred() {
+        String configured = ClientConfig.PREFERRED_BACKEND.get();
+        if (!"auto".equals(configured)) {
+            VideoBackendProvider provider = find(configured);
+            if (provider != null) return provider;
+        }
+
+        List<VideoBackendProvider> providers = getAvailable();
+        return providers.isEmpty() ? SimulatedBackend.Provider.INSTANCE : providers.get(0);
+    }
+
+    @Nullable
+    public static VideoBackendProvider find(String name) {
+        for (VideoBackendProvider provider : getAvailable()) {
+            if (provider.getName().equals(name)) return provider;
+        }
+        return null;
+    }
+
+    public static boolean isAvailable(String name) {
+        return find(name) != null;
+    }
+}
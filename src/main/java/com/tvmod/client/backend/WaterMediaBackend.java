@@ -0,0 +1,216 @@
+package com.tvmod.client.backend;
+
+import com.tvmod.TVMod;
+import com.tvmod.client.VisibilityState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+import javax.annotation.Nullable;
+import java.lang.reflect.Method;
+
+/**
+ * WATERMeDIA {@code SyncVideoPlayer} backend. Methods are resolved once when
+ * the provider is probed.
+ */
+@OnlyIn(Dist.CLIENT)
+public class WaterMediaBackend implements VideoBackend {
+
+    public static final String NAME = "watermedia";
+    private static final String PLAYER_CLASS = "me.srrapero720.watermedia.api.player.SyncVideoPlayer";
+
+    private static Class<?> playerClass;
+    private static Method startMethod, playMethod, pauseMethod, stopMethod, releaseMethod;
+    private static Method setVolumeMethod, setRateMethod, seekToMethod;
+    @Nullable private static Method getTimeMethod, getDurationMethod, textureMethod;
+
+    private final BlockPos origin;
+    private Object player = null;
+    private boolean playing = false;
+    private boolean suspended = false;
+    private int lastVolume = -1;
+
+    public WaterMediaBackend(BlockPos origin) {
+        this.origin = origin;
+    }
+
+    @Override
+    public String getName() { return NAME; }
+
+    @Override
+    public void play(String url, String quality, int sourceIndex) {
+        try {
+            if (player == null) {
+                player = playerClass.getConstructor().newInstance();
+            }
+            startMethod.invoke(player, url);
+            playing = true;
+            lastVolume = -1;
+            TVMod.LOGGER.info("WATERMeDIA playback started for {} at {}", url, origin);
+        } catch (Exception e) {
+            TVMod.LOGGER.error("Failed to start WATERMeDIA playback: {}", e.getMessage());
+            player = null;
+        }
+    }
+
+    @Override
+    public void pause() {
+        playing = false;
+        updatePaused();
+    }
+
+    @Override
+    public void resume() {
+        playing = true;
+        updatePaused();
+    }
+
+    @Override
+    public void setVisibility(VisibilityState state) {
+        // No frame rate control in WATERMeDIA; only suspend when nothing can be perceived
+        suspended = state == VisibilityState.DORMANT;
+        updatePaused();
+    }
+
+    private void updatePaused() {
+        if (player == null) return;
+        try {
+            (playing && !suspended ? playMethod : pauseMethod).invoke(player);
+        } catch (Exception e) {
+            TVMod.LOGGER.debug("Failed to update WATERMeDIA pause state: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void stop() {
+        playing = false;
+        if (player == null) return;
+        try {
+            stopMethod.invoke(player);
+        } catch (Exception e) {
+            TVMod.LOGGER.debug("Failed to stop WATERMeDIA: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void seekTo(long position) {
+        if (player == null) return;
+        try {
+            seekToMethod.invoke(player, position);
+        } catch (Exception e) {
+            TVMod.LOGGER.debug("Failed to seek: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void setVolume(float volume) {
+        int scaled = (int) (volume * 100);
+        if (player == null || scaled == lastVolume) return;
+        try {
+            setVolumeMethod.invoke(player, scaled);
+            lastVolume = scaled;
+        } catch (Exception e) {
+            TVMod.LOGGER.debug("Failed to set volume: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void setPlaybackSpeed(float speed) {
+        if (player == null) return;
+        try {
+            setRateMethod.invoke(player, speed);
+        } catch (Exception e) {
+            TVMod.LOGGER.debug("Failed to set playback speed: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public long getPosition() {
+        return invokeLong(getTimeMethod, -1);
+    }
+
+    @Override
+    public long getDuration() {
+        return invokeLong(getDurationMethod, 0);
+    }
+
+    @Override
+    public boolean providesFrames() {
+        return player != null;
+    }
+
+    @Override
+    public int getTextureId() {
+        if (player == null || textureMethod == null) return -1;
+        try {
+            Object result = textureMethod.invoke(player);
+            return result instanceof Integer ? (Integer) result : -1;
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    private long invokeLong(@Nullable Method method, long fallback) {
+        if (player == null || method == null) return fallback;
+        try {
+            Object result = method.invoke(player);
+            return result instanceof Number ? ((Number) result).longValue() : fallback;
+        } catch (Exception e) {
+            return fallback;
+        }
+    }
+
+    @Override
+    public void release() {
+        if (player == null) return;
+        try {
+            stopMethod.invoke(player);
+            releaseMethod.invoke(player);
+        } catch (Exception e) {
+            TVMod.LOGGER.debug("Error releasing WATERMeDIA: {}", e.getMessage());
+        }
+        player = null;
+        playing = false;
+    }
+
+    @Nullable
+    private static Method optional(String name, Class<?>... params) {
+        try {
+            return playerClass.getMethod(name, params);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    public static class Provider implements VideoBackendProvider {
+
+        @Override public String getName() { return NAME; }
+        @Override public int getPriority() { return 200; }
+
+        @Override
+        public boolean probe() {
+            try {
+                playerClass = Class.forName(PLAYER_CLASS);
+                startMethod = playerClass.getMethod("start", String.class);
+                playMethod = playerClass.getMethod("play");
+                pauseMethod = playerClass.getMethod("pause");
+                stopMethod = playerClass.getMethod("stop");
+                releaseMethod = playerClass.getMethod("release");
+                setVolumeMethod = playerClass.getMethod("setVolume", int.class);
+                setRateMethod = playerClass.getMethod("setRate", float.class);
+                seekToMethod = playerClass.getMethod("seekTo", long.class);
+                getTimeMethod = optional("getTime");
+                getDurationMethod = optional("getDuration");
+                textureMethod = optional("texture");
+                return true;
+            } catch (ClassNotFoundException | NoSuchMethodException e) {
+                return false;
+            }
+        }
+
+        @Override
+        public VideoBackend create(BlockPos origin) {
+            return new WaterMediaBackend(origin);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.tvmod.client.gui;
 
 import com.mojang.blaze3d.matrix.MatrixStack;
 import com.tvmod.TVMod;
+import com.tvmod.client.AttenuationModel;
 import com.tvmod.client.MCEFVideoPlayer;
 import com.tvmod.client.TVVideoPlayer;
 import com.tvmod.client.VideoPlayerManager;
@@ -30,12 +31,13 @@ public class TVScreen extends Screen {
     private Button playButton, pauseButton, stopButton;
     private Button volumeUpButton, volumeDownButton;
     private Button[] sizeButtons, qualityButtons, sourceButtons, speedButtons;
-    private Button clearUrlButton, browserButton;
+    private Button clearUrlButton, browserButton, attenuationButton;
 
     private static final String[] QUALITY_OPTIONS = {"low", "medium", "high", "dash"};
     private int currentQualityIndex = 1;
     private int currentSourceIndex = 1;
     private int currentSpeedIndex = 3;
+    private int currentAttenuationIndex = 0;
 
     private String errorMessage = "";
     private int errorMessageTimer = 0;
@@ -46,6 +48,7 @@ public class TVScreen extends Screen {
         this.currentQualityIndex = tileEntity.getQualityIndex();
         this.currentSourceIndex = tileEntity.getSourceIndex();
         this.currentSpeedIndex = tileEntity.getSpeedIndex();
+        this.currentAttenuationIndex = tileEntity.getAttenuationIndex();
     }
 
     @Override
@@ -79,6 +82,9 @@ public class TVScreen extends Screen {
         this.volumeUpButton = new Button(guiLeft + 45, guiTop + 80, 30, 20, new StringTextComponent("+"), this::onVolumeUpPressed);
         this.addButton(this.volumeUpButton);
 
+        this.attenuationButton = new Button(guiLeft + 10, guiTop + 101, 160, 16, new StringTextComponent(""), this::onAttenuationPressed);
+        this.addButton(this.attenuationButton);
+
         int[] sizes = {1, 2, 4, 6, 8, 10, 12};
         this.sizeButtons = new Button[sizes.length];
         int sizeButtonX = guiLeft + 180;
@@ -183,6 +189,10 @@ public class TVScreen extends Screen {
             }
         }
 
+        if (attenuationButton != null) {
+            attenuationButton.setMessage(new StringTextComponent("Falloff: " + TVTileEntity.ATTENUATION_OPTIONS[currentAttenuationIndex]));
+        }
+
         if (speedButtons != null) {
             float[] speedOptions = MCEFVideoPlayer.SPEED_OPTIONS;
             for (int i = 0; i < speedButtons.length; i++) {
@@ -249,6 +259,7 @@ public class TVScreen extends Screen {
         TVVideoPlayer player = VideoPlayerManager.getOrCreate(tileEntity.getBlockPos());
         player.play(normalizedUrl, quality, sourceIdx);
         player.setPlaybackSpeed(speed);
+        player.setAttenuation(AttenuationModel.byName(tileEntity.getAttenuation()));
 
         NetworkHandler.sendToServer(TVControlPacket.setUrl(tileEntity.getBlockPos(), normalizedUrl));
         NetworkHandler.sendToServer(TVControlPacket.play(tileEntity.getBlockPos()));
@@ -299,6 +310,16 @@ public class TVScreen extends Screen {
         updateButtonStates();
     }
 
+    private void onAttenuationPressed(Button button) {
+        this.currentAttenuationIndex = (currentAttenuationIndex + 1) % TVTileEntity.ATTENUATION_OPTIONS.length;
+        tileEntity.setAttenuationIndex(currentAttenuationIndex);
+        tileEntity.syncToClients();
+
+        TVVideoPlayer player = VideoPlayerManager.get(tileEntity.getBlockPos());
+        if (player != null) player.setAttenuation(AttenuationModel.byName(tileEntity.getAttenuation()));
+        updateButtonStates();
+    }
+
     private String getShortSourceName(String fullName) {
         if (fullName.equals("YouTube")) return "YouTube";
         if (fullName.equals("Direct URL")) return "Direct";
@@ -316,7 +337,7 @@ public class TVScreen extends Screen {
     private void onBrowserPressed(Button button) {
         TVVideoPlayer player = VideoPlayerManager.get(tileEntity.getBlockPos());
         if (player != null && player.isMCEFAvailable()) {
-            MCEFVideoPlayer mcefPlayer = player.getMCEFPlayer();
+            MCEFVideoPlayer mcefPlayer = player.openBrowser();
             if (mcefPlayer != null) {
                 Minecraft.getInstance().setScreen(new BrowserScreen(tileEntity, mcefPlayer));
             } else {
@@ -328,6 +349,7 @@ public class TVScreen extends Screen {
     }
 
     public String getCurrentQuality() { return QUALITY_OPTIONS[currentQualityIndex]; }
+    public TVTileEntity getTileEntity() { return tileEntity; }
 
     private void onVolumeDownPressed(Button button) {
         float newVolume = Math.max(0.0f, tileEntity.getVolume() - 0.1f);
@@ -0,0 +1,98 @@
+package com.tvmod.config;
+
+import net.minecraftforge.common.ForgeConfigSpec;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class ClientConfig {
+
+    public static final ForgeConfigSpec SPEC;
+
+    public static final ForgeConfigSpec.IntValue BROWSER_POOL_MAX_SIZE;
+    public static final ForgeConfigSpec.IntValue BROWSER_POOL_WARM_SIZE;
+    public static final ForgeConfigSpec.IntValue BROWSER_POOL_IDLE_SECONDS;
+
+    public static final ForgeConfigSpec.ConfigValue<String> PREFERRED_BACKEND;
+    public static final ForgeConfigSpec.IntValue MAX_FULL_QUALITY_SESSIONS;
+    public static final ForgeConfigSpec.IntValue MAX_AUDIBLE_SESSIONS;
+    public static final ForgeConfigSpec.IntValue SUSPEND_RADIUS;
+    public static final ForgeConfigSpec.IntValue RELEASE_RADIUS;
+    public static final ForgeConfigSpec.IntValue MAX_SUSPENDED_PLAYERS;
+    public static final ForgeConfigSpec.IntValue TICK_BUDGET_MICROS;
+    public static final ForgeConfigSpec.BooleanValue AUDIO_OCCLUSION;
+    public static final ForgeConfigSpec.ConfigValue<String> ATTENUATION_MODEL;
+    public static final ForgeConfigSpec.ConfigValue<List<? extends String>> CUSTOM_ATTENUATION;
+    public static final ForgeConfigSpec.IntValue TEXTURE_BUDGET_MB;
+    public static final ForgeConfigSpec.IntValue BUFFER_POOL_MB;
+    public static final ForgeConfigSpec.IntValue BUFFER_POOL_IDLE_SECONDS;
+
+    public static final ForgeConfigSpec.BooleanValue SHOW_METRICS_OVERLAY;
+
+    static {
+        ForgeConfigSpec.Builder builder = new ForgeConfigSpec.Builder();
+
+        builder.comment("Embedded browser (MCEF) settings").push("browser");
+        BROWSER_POOL_MAX_SIZE = builder
+                .comment("Maximum number of idle browsers kept warm for reuse")
+                .defineInRange("poolMaxSize", 4, 0, 32);
+        BROWSER_POOL_WARM_SIZE = builder
+                .comment("Number of idle browsers pre-created once MCEF playback has been used")
+                .defineInRange("poolWarmSize", 1, 0, 32);
+        BROWSER_POOL_IDLE_SECONDS = builder
+                .comment("Seconds an idle pooled browser is kept before it is closed")
+                .defineInRange("poolIdleSeconds", 120, 5, 3600);
+        builder.pop();
+
+        builder.comment("Video playback settings").push("playback");
+        PREFERRED_BACKEND = builder
+                .comment("Video backend to use: auto, watermedia, mcef, simulated or software (test pattern)")
+                .define("backend", "auto");
+        MAX_FULL_QUALITY_SESSIONS = builder
+                .comment("Maximum number of videos decoded at full resolution at once")
+                .defineInRange("maxFullQualitySessions", 4, 1, 32);
+        MAX_AUDIBLE_SESSIONS = builder
+                .comment("Maximum number of videos playing at once; further TVs are suspended on their last frame")
+                .defineInRange("maxAudibleSessions", 8, 1, 64);
+        SUSPEND_RADIUS = builder
+                .comment("Distance in blocks beyond which a TV is paused and kept ready to resume")
+                .defineInRange("suspendRadius", 64, 16, 256);
+        RELEASE_RADIUS = builder
+                .comment("Distance in blocks beyond which a TV is released completely; at least suspendRadius + 16")
+                .defineInRange("releaseRadius", 128, 32, 512);
+        MAX_SUSPENDED_PLAYERS = builder
+                .comment("Maximum number of suspended TVs kept; the longest suspended is released first")
+                .defineInRange("maxSuspendedPlayers", 8, 0, 64);
+        TICK_BUDGET_MICROS = builder
+                .comment("Microseconds per client tick for deferrable TV work (resolution changes, scheduling, browser scripts, cleanup); the rest waits for later ticks. Spatial audio always runs")
+                .defineInRange("tickBudgetMicros", 2000, 100, 50000);
+        AUDIO_OCCLUSION = builder
+                .comment("Muffle TVs heard through walls, using a few block raycasts per tick")
+                .define("audioOcclusion", true);
+        ATTENUATION_MODEL = builder
+                .comment("How TV volume falls off with distance unless a TV overrides it: linear, inverse, inverse_square, logarithmic or custom")
+                .define("attenuation", "linear");
+        CUSTOM_ATTENUATION = builder
+                .comment("Keyframes of the custom falloff as \"distance:gain\"; gain is interpolated in between and silent past 32 blocks")
+                .defineList("customAttenuation", Arrays.asList("0:1.0", "6:0.8", "16:0.3", "32:0.0"),
+                        entry -> entry instanceof String && ((String) entry).contains(":"));
+        TEXTURE_BUDGET_MB = builder
+                .comment("Memory budget in MB for TV screen textures; screens not drawn recently are freed first when over it")
+                .defineInRange("textureBudgetMB", 256, 16, 4096);
+        BUFFER_POOL_MB = builder
+                .comment("MB of released frame buffers kept for reuse by other TVs")
+                .defineInRange("bufferPoolMB", 64, 0, 1024);
+        BUFFER_POOL_IDLE_SECONDS = builder
+                .comment("Seconds an unused pooled frame buffer is kept before it is freed")
+                .defineInRange("bufferPoolIdleSeconds", 30, 1, 3600);
+        builder.pop();
+
+        builder.comment("Diagnostics").push("debug");
+        SHOW_METRICS_OVERLAY = builder
+                .comment("Show TV performance metrics on the F3 debug screen")
+                .define("showMetricsOverlay", false);
+        builder.pop();
+
+        SPEC = builder.build();
+    }
+}
@@ -1,12 +1,15 @@
 package com.tvmod.tileentity;
 
 import com.tvmod.init.ModTileEntities;
+import com.tvmod.util.PlaybackClock;
 import net.minecraft.block.BlockState;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.network.NetworkManager;
 import net.minecraft.network.play.server.SUpdateTileEntityPacket;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.tileentity.TileEntityType;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.fml.DistExecutor;
 
 import javax.annotation.Nullable;
 
@@ -14,16 +17,19 @@ public class TVTileEntity extends TileEntity {
 
     private String videoUrl = "";
     private boolean isPlaying = false;
-    private long playbackPosition = 0;
+    private final PlaybackClock clock = new PlaybackClock();
     private float volume = 1.0f;
     private int screenSize = 2;
     private int qualityIndex = 1;
     private int sourceIndex = 1;
     private int speedIndex = 3;
+    private int attenuationIndex = 0;
 
     public static final int[] VALID_SIZES = {1, 2, 4, 6, 8, 10, 12};
     public static final String[] QUALITY_OPTIONS = {"low", "medium", "high", "dash"};
     public static final float[] SPEED_OPTIONS = {0.25f, 0.5f, 0.75f, 1.0f, 1.25f, 1.5f, 2.0f};
+    // "default" follows the client's configured falloff
+    public static final String[] ATTENUATION_OPTIONS = {"default", "linear", "inverse", "inverse_square", "logarithmic", "custom"};
 
     public TVTileEntity() {
         super(ModTileEntities.TV_TILE_ENTITY.get());
@@ -36,6 +42,7 @@ public class TVTileEntity extends TileEntity {
     public void play() {
         if (!videoUrl.isEmpty()) {
             this.isPlaying = true;
+            clock.start();
             setChanged();
         }
     }
@@ -43,13 +50,14 @@ public class TVTileEntity extends TileEntity {
     public void pause() {
         if (this.isPlaying) {
             this.isPlaying = false;
+            clock.pause();
             setChanged();
         }
     }
 
     public void stop() {
         this.isPlaying = false;
-        this.playbackPosition = 0;
+        clock.stop();
         setChanged();
     }
 
@@ -64,13 +72,13 @@ public class TVTileEntity extends TileEntity {
     }
 
     public void setPlaybackPosition(long position) {
-        this.playbackPosition = Math.max(0, position);
+        clock.seek(position);
         setChanged();
     }
 
     public String getVideoUrl() { return videoUrl; }
     public boolean isPlaying() { return isPlaying; }
-    public long getPlaybackPosition() { return playbackPosition; }
+    public long getPlaybackPosition() { return clock.getPosition(); }
     public float getVolume() { return volume; }
     public int getScreenSize() { return screenSize; }
 
@@ -113,6 +121,7 @@ public class TVTileEntity extends TileEntity {
     public void setSpeedIndex(int index) {
         if (index >= 0 && index < SPEED_OPTIONS.length) {
             this.speedIndex = index;
+            clock.setRate(getSpeed());
             setChanged();
         }
     }
@@ -124,17 +133,30 @@ public class TVTileEntity extends TileEntity {
         return 1.0f;
     }
 
+    public int getAttenuationIndex() { return attenuationIndex; }
+    public void setAttenuationIndex(int index) {
+        if (index >= 0 && index < ATTENUATION_OPTIONS.length) {
+            this.attenuationIndex = index;
+            setChanged();
+        }
+    }
+
+    public String getAttenuation() {
+        return ATTENUATION_OPTIONS[attenuationIndex];
+    }
+
     @Override
     public CompoundNBT save(CompoundNBT tag) {
         super.save(tag);
         tag.putString("VideoUrl", videoUrl);
         tag.putBoolean("Playing", isPlaying);
-        tag.putLong("Position", playbackPosition);
+        tag.putLong("Position", clock.getPosition());
         tag.putFloat("Volume", volume);
         tag.putInt("ScreenSize", screenSize);
         tag.putInt("QualityIndex", qualityIndex);
         tag.putInt("SourceIndex", sourceIndex);
         tag.putInt("SpeedIndex", speedIndex);
+        tag.putInt("AttenuationIndex", attenuationIndex);
         return tag;
     }
 
@@ -143,7 +165,7 @@ public class TVTileEntity extends TileEntity {
         super.load(state, tag);
         this.videoUrl = tag.getString("VideoUrl");
         this.isPlaying = false;
-        this.playbackPosition = tag.getLong("Position");
+        long position = tag.getLong("Position");
         this.volume = tag.getFloat("Volume");
         if (Float.isNaN(this.volume) || this.volume < 0.0f || this.volume > 1.0f) {
             this.volume = 1.0f;
@@ -162,6 +184,9 @@ public class TVTileEntity extends TileEntity {
         this.sourceIndex = (loadedSource >= 0 && loadedSource <= 5) ? loadedSource : 1;
         int loadedSpeed = tag.getInt("SpeedIndex");
         this.speedIndex = (loadedSpeed >= 0 && loadedSpeed < SPEED_OPTIONS.length) ? loadedSpeed : 3;
+        int loadedAttenuation = tag.getInt("AttenuationIndex");
+        this.attenuationIndex = (loadedAttenuation >= 0 && loadedAttenuation < ATTENUATION_OPTIONS.length) ? loadedAttenuation : 0;
+        resetClock(position);
     }
 
     @Override
@@ -169,12 +194,13 @@ public class TVTileEntity extends TileEntity {
         CompoundNBT tag = super.getUpdateTag();
         tag.putString("VideoUrl", videoUrl);
         tag.putBoolean("Playing", isPlaying);
-        tag.putLong("Position", playbackPosition);
+        tag.putLong("Position", clock.getPosition());
         tag.putFloat("Volume", volume);
         tag.putInt("ScreenSize", screenSize);
         tag.putInt("QualityIndex", qualityIndex);
         tag.putInt("SourceIndex", sourceIndex);
         tag.putInt("SpeedIndex", speedIndex);
+        tag.putInt("AttenuationIndex", attenuationIndex);
         return tag;
     }
 
@@ -182,7 +208,7 @@ public class TVTileEntity extends TileEntity {
     public void handleUpdateTag(BlockState state, CompoundNBT tag) {
         this.videoUrl = tag.getString("VideoUrl");
         this.isPlaying = tag.getBoolean("Playing");
-        this.playbackPosition = tag.getLong("Position");
+        long position = tag.getLong("Position");
         this.volume = tag.getFloat("Volume");
         if (Float.isNaN(this.volume) || this.volume < 0.0f || this.volume > 1.0f) {
             this.volume = 1.0f;
@@ -201,6 +227,36 @@ public class TVTileEntity extends TileEntity {
         this.sourceIndex = (loadedSource >= 0 && loadedSource <= 5) ? loadedSource : 1;
         int loadedSpeed = tag.getInt("SpeedIndex");
         this.speedIndex = (loadedSpeed >= 0 && loadedSpeed < SPEED_OPTIONS.length) ? loadedSpeed : 3;
+        int loadedAttenuation = tag.getInt("AttenuationIndex");
+        this.attenuationIndex = (loadedAttenuation >= 0 && loadedAttenuation < ATTENUATION_OPTIONS.length) ? loadedAttenuation : 0;
+        resetClock(position);
+    }
+
+    private void resetClock(long position) {
+        clock.pause();
+        clock.setRate(getSpeed());
+        clock.seek(position);
+        if (isPlaying) clock.start();
+    }
+
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        releaseClientPlayer();
+    }
+
+    @Override
+    public void onChunkUnloaded() {
+        super.onChunkUnloaded();
+        releaseClientPlayer();
+    }
+
+    private void releaseClientPlayer() {
+        if (level != null && level.isClientSide) {
+            DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> {
+                com.tvmod.client.VideoPlayerManager.remove(worldPosition);
+            });
+        }
     }
 
     @Nullable
@@ -0,0 +1,124 @@
+package com.tvmod.util;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Media clock in milliseconds driven by {@link System#nanoTime}, so it is not
+ * affected by wall clock changes. Every rate change, pause or seek closes the
+ * current segment and anchors a new one at the current position, so speed
+ * changes never rewrite time that already played.
+ * <p>
+ * Small differences from a position reported by the backend are slewed out by
+ * running slightly faster or slower; large ones are snapped. Used on both the
+ * client and the server, so both sides agree on the maths.
+ */
+public class PlaybackClock {
+
+    /** Drift below this is ignored. */
+    public static final long DEADBAND_MS = 40;
+    /** Drift above this is corrected with a seek instead of slewing. */
+    public static final long SNAP_THRESHOLD_MS = 1500;
+    /** Maximum slew, as a fraction of the playback rate. */
+    public static final double MAX_SLEW = 0.05;
+
+    private final LongSupplier nanoTime;
+
+    private long anchorNanos;
+    private double anchorPosition = 0;
+    private float rate = 1.0f;
+    private boolean running = false;
+
+    // Correction still to apply in this segment, in media milliseconds
+    private double slewRemaining = 0;
+
+    public PlaybackClock() {
+        this(System::nanoTime);
+    }
+
+    public PlaybackClock(LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+        this.anchorNanos = nanoTime.getAsLong();
+    }
+
+    public long getPosition() {
+        return (long) positionAt(nanoTime.getAsLong());
+    }
+
+    private double positionAt(long now) {
+        if (!running) return anchorPosition;
+        double played = (now - anchorNanos) / 1_000_000.0 * rate;
+        return Math.max(0, anchorPosition + played + slewApplied(played));
+    }
+
+    private double slewApplied(double played) {
+        if (slewRemaining == 0) return 0;
+        double maxCorrection = played * MAX_SLEW;
+        return slewRemaining > 0 ? Math.min(slewRemaining, maxCorrection) : Math.max(slewRemaining, -maxCorrection);
+    }
+
+    /**
+     * Closes the current segment at the current position.
+     */
+    private void reanchor() {
+        long now = nanoTime.getAsLong();
+        if (running) {
+            double played = (now - anchorNanos) / 1_000_000.0 * rate;
+            double applied = slewApplied(played);
+            anchorPosition = Math.max(0, anchorPosition + played + applied);
+            slewRemaining -= applied;
+        }
+        anchorNanos = now;
+    }
+
+    public void start() {
+        if (running) return;
+        reanchor();
+        running = true;
+    }
+
+    public void pause() {
+        if (!running) return;
+        reanchor();
+        running = false;
+    }
+
+    public void stop() {
+        running = false;
+        seek(0);
+    }
+
+    public void seek(long positionMs) {
+        reanchor();
+        anchorPosition = Math.max(0, positionMs);
+        slewRemaining = 0;
+    }
+
+    public void setRate(float rate) {
+        if (rate <= 0 || rate == this.rate) return;
+        reanchor();
+        this.rate = rate;
+    }
+
+    /**
+     * Steers the clock toward a position reported by the backend. Returns the
+     * drift that was measured, in milliseconds (positive if the clock is
+     * behind).
+     */
+    public long correct(long reportedMs) {
+        reanchor();
+        double drift = reportedMs - anchorPosition;
+        if (Math.abs(drift) >= SNAP_THRESHOLD_MS || !running) {
+            anchorPosition = Math.max(0, reportedMs);
+            slewRemaining = 0;
+        } else if (Math.abs(drift) > DEADBAND_MS) {
+            slewRemaining = drift;
+        } else {
+            slewRemaining = 0;
+        }
+        return (long) drift;
+    }
+
+    public boolean isRunning() { return running; }
+    public float getRate() { return rate; }
+    public boolean isSlewing() { return slewRemaining != 0; }
+}
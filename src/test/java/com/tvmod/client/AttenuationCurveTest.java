@@ -0,0 +1,72 @@
+package com.tvmod.client;
+
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.DoubleRange;
+import net.jqwik.api.constraints.FloatRange;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AttenuationCurveTest {
+
+    // Table error allowed from one block out, in absolute gain
+    private static final double TOLERANCE = 0.011;
+    private static final List<String> KEYFRAMES = Arrays.asList("0:1.0", "6:0.8", "16:0.3", "32:0.0");
+
+    private static AttenuationCurve curve(AttenuationModel model) {
+        return AttenuationCurve.compile(model, KEYFRAMES);
+    }
+
+    @Property
+    void lookupMatchesGainBeyondOneBlock(@ForAll AttenuationModel model,
+                                         @ForAll @DoubleRange(min = 1.0, max = 40.0) double distance) {
+        AttenuationCurve curve = curve(model);
+        assertEquals(curve.gain(distance), curve.lookup(distance * distance), TOLERANCE,
+                model + " at " + distance);
+    }
+
+    @Property
+    void linearLookupMatchesVolumeCalculator(@ForAll @DoubleRange(min = 1.0, max = 40.0) double distance,
+                                             @ForAll @FloatRange(min = 0.0f, max = 1.0f) float volume) {
+        AttenuationCurve curve = curve(AttenuationModel.LINEAR);
+        float reference = VolumeCalculator.calculateVolume(distance, volume);
+        assertEquals(reference, VolumeCalculator.calculateVolume(distance, volume, curve), 1e-6);
+        assertEquals(reference, curve.lookup(distance * distance) * volume, TOLERANCE);
+    }
+
+    @Property
+    void gainFallsOffMonotonically(@ForAll AttenuationModel model,
+                                   @ForAll @DoubleRange(min = 0.0, max = 40.0) double a,
+                                   @ForAll @DoubleRange(min = 0.0, max = 40.0) double b) {
+        AttenuationCurve curve = curve(model);
+        double near = Math.min(a, b);
+        double far = Math.max(a, b);
+        assertTrue(curve.gain(near) >= curve.gain(far), model + " rises from " + near + " to " + far);
+        assertTrue(curve.lookup(near * near) >= curve.lookup(far * far),
+                model + " table rises from " + near + " to " + far);
+    }
+
+    @Property
+    void silentAtAndBeyondMaxDistance(@ForAll AttenuationModel model,
+                                      @ForAll @DoubleRange(min = 0.0, max = 1000.0) double beyond) {
+        AttenuationCurve curve = curve(model);
+        double distance = VolumeCalculator.MAX_DISTANCE + beyond;
+        assertEquals(0.0f, curve.lookup(distance * distance));
+        assertEquals(0.0f, curve.gain(distance));
+    }
+
+    @Property
+    void fullVolumeAtTheSource(@ForAll AttenuationModel model) {
+        assertEquals(1.0f, curve(model).gain(0.0), 1e-6);
+    }
+
+    @Property
+    void customCurveInterpolatesKeyframes(@ForAll @DoubleRange(min = 6.0, max = 16.0) double distance) {
+        double expected = 0.8 + (0.3 - 0.8) * (distance - 6.0) / 10.0;
+        assertEquals(expected, curve(AttenuationModel.CUSTOM).gain(distance), 1e-6);
+    }
+}
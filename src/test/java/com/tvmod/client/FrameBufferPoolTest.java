@@ -0,0 +1,82 @@
+package com.tvmod.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class FrameBufferPoolTest {
+
+    private static final long NO_LIMIT = Long.MAX_VALUE;
+
+    @BeforeEach
+    @AfterEach
+    void reset() {
+        FrameBufferPool.clear();
+        FrameBufferPool.trim(64L * 1024 * 1024, NO_LIMIT);
+    }
+
+    @Test
+    void releasedBufferIsReusedForTheSameSize() {
+        long hits = FrameBufferPool.getHits();
+        ByteBuffer first = FrameBufferPool.acquire(64);
+        first.position(10);
+        FrameBufferPool.release(first);
+        assertEquals(64, FrameBufferPool.getPooledBytes());
+
+        ByteBuffer second = FrameBufferPool.acquire(64);
+        assertSame(first, second);
+        assertEquals(0, second.position());
+        assertEquals(ByteOrder.LITTLE_ENDIAN, second.order());
+        assertEquals(hits + 1, FrameBufferPool.getHits());
+        assertEquals(0, FrameBufferPool.getPooledBytes());
+        FrameBufferPool.release(second);
+    }
+
+    @Test
+    void otherSizesAreNotReused() {
+        ByteBuffer small = FrameBufferPool.acquire(64);
+        FrameBufferPool.release(small);
+
+        long misses = FrameBufferPool.getMisses();
+        ByteBuffer large = FrameBufferPool.acquire(128);
+        assertNotSame(small, large);
+        assertEquals(128, large.capacity());
+        assertEquals(misses + 1, FrameBufferPool.getMisses());
+        FrameBufferPool.release(large);
+    }
+
+    @Test
+    void releaseOverTheCapFreesInstead() {
+        FrameBufferPool.trim(100, NO_LIMIT);
+        FrameBufferPool.release(FrameBufferPool.acquire(64));
+        FrameBufferPool.release(FrameBufferPool.acquire(64));
+        ByteBuffer a = FrameBufferPool.acquire(64);
+        ByteBuffer b = FrameBufferPool.acquire(64);
+        FrameBufferPool.release(a);
+        FrameBufferPool.release(b);
+        assertEquals(64, FrameBufferPool.getPooledBytes());
+    }
+
+    @Test
+    void trimFreesIdleBuffersAndEnforcesTheCap() {
+        ByteBuffer a = FrameBufferPool.acquire(64);
+        ByteBuffer b = FrameBufferPool.acquire(32);
+        FrameBufferPool.release(a);
+        FrameBufferPool.release(b);
+        assertEquals(96, FrameBufferPool.getPooledBytes());
+
+        // Over a 40 byte cap the longest idle buffer goes first
+        FrameBufferPool.trim(40, NO_LIMIT);
+        assertEquals(32, FrameBufferPool.getPooledBytes());
+
+        FrameBufferPool.trim(1024, -1);
+        assertEquals(0, FrameBufferPool.getPooledBytes());
+    }
+}
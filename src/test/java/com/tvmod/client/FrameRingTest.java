@@ -0,0 +1,194 @@
+package com.tvmod.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FrameRingTest {
+
+    private static final int WIDTH = 4;
+    private static final int HEIGHT = 2;
+    private static final Executor DIRECT = Runnable::run;
+
+    /**
+     * Holds submitted jobs until the test runs them, like a busy worker.
+     */
+    private static class HeldExecutor implements Executor {
+        final List<Runnable> jobs = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable job) {
+            jobs.add(job);
+        }
+
+        void runAll() {
+            List<Runnable> pending = new ArrayList<>(jobs);
+            jobs.clear();
+            pending.forEach(Runnable::run);
+        }
+    }
+
+    /**
+     * Produces a new frame per call, stamping its sequence into the first pixel.
+     */
+    private static class CountingSource implements FrameSource {
+        long next = 0;
+
+        @Override
+        public long readFrame(ByteBuffer target, int width, int height, long previous) {
+            long sequence = next++;
+            target.putInt(0, (int) sequence);
+            return sequence;
+        }
+    }
+
+    @BeforeEach
+    @AfterEach
+    void clearPool() {
+        FrameBufferPool.clear();
+    }
+
+    @Test
+    void latestFrameIsDisplayedAndReplacedOnesAreDropped() {
+        FrameRing ring = new FrameRing(WIDTH, HEIGHT);
+        CountingSource source = new CountingSource();
+
+        assertTrue(ring.requestFrame(DIRECT, source));
+        assertTrue(ring.requestFrame(DIRECT, source));
+        assertEquals(2, ring.getProducedFrames());
+        assertEquals(1, ring.getDroppedFrames());
+
+        ByteBuffer frame = ring.acquireLatest();
+        assertNotNull(frame);
+        assertEquals(1, frame.getInt(0));
+        assertEquals(1, ring.getDisplayedFrames());
+        assertNull(ring.acquireLatest());
+
+        assertTrue(ring.requestFrame(DIRECT, source));
+        frame = ring.acquireLatest();
+        assertNotNull(frame);
+        assertEquals(2, frame.getInt(0));
+        assertEquals(1, ring.getDroppedFrames());
+        assertEquals(2, ring.getDisplayedFrames());
+        ring.close();
+    }
+
+    @Test
+    void swapsNeverHandOutTheSlotBeingWritten() {
+        FrameRing ring = new FrameRing(WIDTH, HEIGHT);
+        HeldExecutor worker = new HeldExecutor();
+        CountingSource source = new CountingSource();
+
+        ring.requestFrame(DIRECT, source);
+        ByteBuffer displayed = ring.acquireLatest();
+        for (int i = 0; i < 10; i++) {
+            assertTrue(ring.requestFrame(worker, source));
+            ByteBuffer latest = ring.acquireLatest();
+            if (latest != null) displayed = latest;
+            worker.runAll();
+            ByteBuffer next = ring.acquireLatest();
+            assertNotNull(next);
+            assertFalse(next == displayed, "display slot reused while still shown");
+            displayed = next;
+        }
+        ring.close();
+    }
+
+    @Test
+    void unchangedSequenceIsNotAFrame() {
+        FrameRing ring = new FrameRing(WIDTH, HEIGHT);
+        FrameSource still = (target, width, height, previous) -> 7;
+
+        ring.requestFrame(DIRECT, still);
+        ring.requestFrame(DIRECT, still);
+        assertEquals(1, ring.getProducedFrames());
+        assertEquals(7, ring.getLastSequence());
+        assertNotNull(ring.acquireLatest());
+        assertNull(ring.acquireLatest());
+        ring.close();
+    }
+
+    @Test
+    void requestWhileWritingIsSkipped() {
+        FrameRing ring = new FrameRing(WIDTH, HEIGHT);
+        HeldExecutor worker = new HeldExecutor();
+        CountingSource source = new CountingSource();
+
+        assertTrue(ring.requestFrame(worker, source));
+        assertFalse(ring.requestFrame(worker, source));
+        assertEquals(1, ring.getBusyRequests());
+        assertEquals(1, worker.jobs.size());
+
+        worker.runAll();
+        assertEquals(1, ring.getProducedFrames());
+        assertTrue(ring.requestFrame(worker, source));
+        ring.close();
+        worker.runAll();
+    }
+
+    @Test
+    void failingSourceProducesNothing() {
+        FrameRing ring = new FrameRing(WIDTH, HEIGHT);
+        FrameSource broken = (target, width, height, previous) -> {
+            throw new IllegalStateException("decoder gone");
+        };
+
+        assertTrue(ring.requestFrame(DIRECT, broken));
+        assertEquals(0, ring.getProducedFrames());
+        assertNull(ring.acquireLatest());
+        assertTrue(ring.requestFrame(DIRECT, new CountingSource()));
+        assertEquals(1, ring.getProducedFrames());
+        ring.close();
+    }
+
+    @Test
+    void rejectedRequestLeavesRingUsable() {
+        FrameRing ring = new FrameRing(WIDTH, HEIGHT);
+        Executor shutDown = job -> {
+            throw new RejectedExecutionException();
+        };
+
+        assertFalse(ring.requestFrame(shutDown, new CountingSource()));
+        assertEquals(0, ring.getBusyRequests());
+        assertTrue(ring.requestFrame(DIRECT, new CountingSource()));
+        assertEquals(1, ring.getProducedFrames());
+        ring.close();
+    }
+
+    @Test
+    void closeDuringWriteFreesBuffersWhenTheWorkerFinishes() {
+        FrameRing ring = new FrameRing(WIDTH, HEIGHT);
+        HeldExecutor worker = new HeldExecutor();
+        ring.requestFrame(worker, new CountingSource());
+
+        ring.close();
+        assertEquals(0, FrameBufferPool.getPooledBytes(), "buffers freed while the worker still writes");
+        assertFalse(ring.requestFrame(DIRECT, new CountingSource()));
+        assertNull(ring.acquireLatest());
+
+        worker.runAll();
+        assertEquals((long) FrameRing.SLOTS * WIDTH * HEIGHT * 4, FrameBufferPool.getPooledBytes());
+        assertEquals(0, ring.getProducedFrames());
+    }
+
+    @Test
+    void closeWhenIdleFreesBuffersAtOnce() {
+        FrameRing ring = new FrameRing(WIDTH, HEIGHT);
+        ring.close();
+        assertEquals((long) FrameRing.SLOTS * WIDTH * HEIGHT * 4, FrameBufferPool.getPooledBytes());
+        ring.close();
+        assertEquals((long) FrameRing.SLOTS * WIDTH * HEIGHT * 4, FrameBufferPool.getPooledBytes());
+    }
+}
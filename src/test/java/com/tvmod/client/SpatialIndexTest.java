@@ -0,0 +1,131 @@
+package com.tvmod.client;
+
+import net.minecraft.util.math.BlockPos;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpatialIndexTest {
+
+    private static double distanceSqr(BlockPos pos, double x, double y, double z) {
+        double dx = pos.getX() + 0.5 - x;
+        double dy = pos.getY() + 0.5 - y;
+        double dz = pos.getZ() + 0.5 - z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Index and a plain map holding the same random positions, with negative
+     * coordinates and section boundaries well covered.
+     */
+    private static Map<BlockPos, Integer> fill(SpatialIndex<Integer> index, Random random, int count, int spread) {
+        Map<BlockPos, Integer> expected = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            BlockPos pos = new BlockPos(random.nextInt(2 * spread) - spread, random.nextInt(64),
+                    random.nextInt(2 * spread) - spread);
+            index.put(pos, i);
+            expected.put(pos, i);
+        }
+        return expected;
+    }
+
+    @Test
+    void putReplacesAndRemoveForgets() {
+        SpatialIndex<String> index = new SpatialIndex<>();
+        BlockPos pos = new BlockPos(-1, 70, 17);
+
+        assertNull(index.put(pos, "a"));
+        int version = index.getVersion();
+        assertEquals("a", index.put(pos, "b"));
+        assertTrue(index.getVersion() != version);
+        assertEquals(1, index.size());
+        assertEquals(1, index.getSectionCount());
+
+        assertEquals("b", index.remove(pos));
+        assertNull(index.remove(pos));
+        assertFalse(index.contains(pos));
+        assertEquals(0, index.getSectionCount());
+    }
+
+    @Test
+    void collectWithinMatchesBruteForce() {
+        Random random = new Random(42);
+        for (int round = 0; round < 50; round++) {
+            SpatialIndex<Integer> index = new SpatialIndex<>();
+            // Alternate dense and sparse layouts to hit both scan strategies
+            Map<BlockPos, Integer> expected = fill(index, random, 1 + random.nextInt(200), round % 2 == 0 ? 40 : 2000);
+
+            double x = random.nextDouble() * 200 - 100;
+            double y = random.nextDouble() * 64;
+            double z = random.nextDouble() * 200 - 100;
+            double radius = random.nextDouble() * 80;
+
+            List<Integer> found = new ArrayList<>();
+            index.collectWithin(x, y, z, radius, found);
+
+            Set<Integer> inside = new HashSet<>();
+            for (Map.Entry<BlockPos, Integer> entry : expected.entrySet()) {
+                if (distanceSqr(entry.getKey(), x, y, z) <= radius * radius) inside.add(entry.getValue());
+            }
+            assertEquals(inside.size(), found.size());
+            assertEquals(inside, new HashSet<>(found));
+        }
+    }
+
+    @Test
+    void collectOutsideMatchesBruteForce() {
+        Random random = new Random(7);
+        for (int round = 0; round < 50; round++) {
+            SpatialIndex<Integer> index = new SpatialIndex<>();
+            Map<BlockPos, Integer> expected = fill(index, random, 1 + random.nextInt(200), 100);
+
+            double x = random.nextDouble() * 200 - 100;
+            double y = random.nextDouble() * 64;
+            double z = random.nextDouble() * 200 - 100;
+            double radius = random.nextDouble() * 120;
+
+            List<Integer> found = new ArrayList<>();
+            index.collectOutside(x, y, z, radius, found);
+
+            Set<Integer> outside = new HashSet<>();
+            for (Map.Entry<BlockPos, Integer> entry : expected.entrySet()) {
+                if (distanceSqr(entry.getKey(), x, y, z) > radius * radius) outside.add(entry.getValue());
+            }
+            assertEquals(outside.size(), found.size());
+            assertEquals(outside, new HashSet<>(found));
+        }
+    }
+
+    @Test
+    void collectInChunkMatchesBruteForce() {
+        Random random = new Random(3);
+        SpatialIndex<Integer> index = new SpatialIndex<>();
+        Map<BlockPos, Integer> expected = fill(index, random, 300, 48);
+
+        for (int chunkX = -4; chunkX < 4; chunkX++) {
+            for (int chunkZ = -4; chunkZ < 4; chunkZ++) {
+                List<Integer> found = new ArrayList<>();
+                index.collectInChunk(chunkX, chunkZ, found);
+
+                Set<Integer> inChunk = new HashSet<>();
+                for (Map.Entry<BlockPos, Integer> entry : expected.entrySet()) {
+                    BlockPos pos = entry.getKey();
+                    if (pos.getX() >> 4 == chunkX && pos.getZ() >> 4 == chunkZ) inChunk.add(entry.getValue());
+                }
+                assertEquals(inChunk.size(), found.size());
+                assertEquals(inChunk, new HashSet<>(found));
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.tvmod.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TickSchedulerTest {
+
+    private final List<String> ran = new ArrayList<>();
+
+    private Runnable job(String name) {
+        return () -> ran.add(name);
+    }
+
+    @Test
+    void deferringAQueuedKeyKeepsItsPlace() {
+        TickScheduler ticks = new TickScheduler();
+        ticks.defer("a", job("a"));
+        ticks.defer("b", job("b"));
+        ticks.defer("a", job("a again"));
+        assertEquals(2, ticks.getDeferredCount());
+
+        ticks.begin(Long.MAX_VALUE);
+        ticks.drain();
+        assertEquals(2, ran.size());
+        assertEquals("a", ran.get(0));
+        assertEquals("b", ran.get(1));
+    }
+
+    @Test
+    void cancelledKeyRequeuesAtTheBack() {
+        TickScheduler ticks = new TickScheduler();
+        ticks.defer("a", job("a"));
+        ticks.cancel("a");
+        ticks.defer("b", job("b"));
+        ticks.defer("a", job("a"));
+
+        // No budget: only the one guaranteed job runs
+        ticks.begin(0);
+        ticks.drain();
+        assertEquals(1, ran.size());
+        assertEquals("b", ran.get(0));
+
+        ticks.begin(Long.MAX_VALUE);
+        ticks.drain();
+        assertEquals(2, ran.size());
+        assertEquals("a", ran.get(1));
+        assertEquals(0, ticks.getDeferredCount());
+    }
+}
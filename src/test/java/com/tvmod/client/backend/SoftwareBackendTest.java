@@ -0,0 +1,87 @@
+package com.tvmod.client.backend;
+
+import com.tvmod.client.FrameSource;
+import net.minecraft.util.math.BlockPos;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SoftwareBackendTest {
+
+    private static final int WIDTH = 16;
+    private static final int HEIGHT = 20;
+
+    private static ByteBuffer frame() {
+        return ByteBuffer.allocateDirect(WIDTH * HEIGHT * 4).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Test
+    void sameFrameIsOnlyProducedOncePerConsumer() {
+        SoftwareBackend backend = new SoftwareBackend(BlockPos.ZERO);
+        FrameSource source = backend.getFrameSource();
+        ByteBuffer target = frame();
+
+        long first = source.readFrame(target, WIDTH, HEIGHT, FrameSource.NO_FRAME);
+        assertEquals(0, first);
+        assertEquals(first, source.readFrame(target, WIDTH, HEIGHT, first));
+    }
+
+    @Test
+    void everyConsumerGetsEveryFrame() {
+        SoftwareBackend backend = new SoftwareBackend(BlockPos.ZERO);
+        FrameSource source = backend.getFrameSource();
+
+        long a = source.readFrame(frame(), WIDTH, HEIGHT, FrameSource.NO_FRAME);
+        long b = source.readFrame(frame(), WIDTH, HEIGHT, FrameSource.NO_FRAME);
+        assertEquals(a, b);
+
+        backend.seekTo(1000);
+        assertEquals(30, source.readFrame(frame(), WIDTH, HEIGHT, a));
+        assertEquals(30, source.readFrame(frame(), WIDTH, HEIGHT, b));
+    }
+
+    @Test
+    void sequenceFollowsThePlaybackPosition() throws InterruptedException {
+        SoftwareBackend backend = new SoftwareBackend(BlockPos.ZERO);
+        FrameSource source = backend.getFrameSource();
+        backend.play("test", "medium", 0);
+
+        long previous = FrameSource.NO_FRAME;
+        for (int i = 0; i < 3; i++) {
+            long sequence = source.readFrame(frame(), WIDTH, HEIGHT, previous);
+            assertTrue(sequence > previous, "frame " + sequence + " after " + previous);
+            assertEquals(backend.getPosition() * 30 / 1000, sequence, 1);
+            previous = sequence;
+            Thread.sleep(50);
+        }
+
+        backend.pause();
+        long paused = source.readFrame(frame(), WIDTH, HEIGHT, previous);
+        Thread.sleep(50);
+        assertEquals(paused, source.readFrame(frame(), WIDTH, HEIGHT, paused));
+        backend.release();
+    }
+
+    @Test
+    void drawsBarsAndProgressLine() {
+        SoftwareBackend backend = new SoftwareBackend(BlockPos.ZERO);
+        backend.seekTo(30_000);
+        ByteBuffer target = frame();
+        backend.getFrameSource().readFrame(target, WIDTH, HEIGHT, FrameSource.NO_FRAME);
+
+        // Bars are copied down every row above the progress line
+        for (int y = 1; y < HEIGHT - 1; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                assertEquals(target.getInt(x * 4), target.getInt((y * WIDTH + x) * 4));
+            }
+        }
+        // Halfway through, the left half of the last row is lit
+        int last = (HEIGHT - 1) * WIDTH;
+        assertEquals(0xFFFFFFFF, target.getInt((last + WIDTH / 2 - 1) * 4));
+        assertEquals(0xFF202020, target.getInt((last + WIDTH / 2) * 4));
+    }
+}